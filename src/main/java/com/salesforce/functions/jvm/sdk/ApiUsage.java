@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Represents the API request usage of a Salesforce organization, as reported by the {@code
+ * Sforce-Limit-Info} header of the most recent API response.
+ *
+ * <p>All implementations must be immutable and therefore thread-safe.
+ *
+ * @see Org#getApiUsage()
+ * @see <a
+ *     href="https://developer.salesforce.com/docs/atlas.en-us.api_rest.meta/api_rest/headers_api_usage.htm">REST
+ *     API Developer Guide - Limit Info Header</a>
+ */
+@Immutable
+public interface ApiUsage {
+  /**
+   * Returns the amount of API requests made by the organization in the last 24 hours.
+   *
+   * @return The amount of API requests made.
+   */
+  @SuppressWarnings("unused")
+  long getUsedRequests();
+
+  /**
+   * Returns the maximum amount of API requests the organization can make in 24 hours.
+   *
+   * @return The maximum amount of API requests.
+   */
+  @SuppressWarnings("unused")
+  long getMaxRequests();
+}
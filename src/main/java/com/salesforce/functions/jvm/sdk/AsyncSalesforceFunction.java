@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Interface for Salesforce Functions written in Java that produce their result asynchronously.
+ *
+ * <p>Unlike {@link SalesforceFunction}, the invocation thread is released as soon as {@link
+ * #apply(InvocationEvent, Context)} returns. The response is sent once the returned {@link
+ * CompletionStage} completes. If it completes exceptionally, the invocation fails the same way as
+ * if {@link SalesforceFunction#apply(InvocationEvent, Context)} had thrown the exception.
+ *
+ * @param <T> The type of the {@link InvocationEvent} payload this function can handle.
+ * @param <R> The type of the response of this function.
+ * @see SalesforceFunction
+ * @see com.salesforce.functions.jvm.sdk.data.AsyncDataApi
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface AsyncSalesforceFunction<T, R> {
+
+  /**
+   * Applies the function to the given arguments.
+   *
+   * @param event The invocation event for this function application.
+   * @param context The context for this function application.
+   * @return A {@link CompletionStage} that completes with the result of this function application.
+   * @throws Exception If an unrecoverable exception occurred during function application.
+   */
+  CompletionStage<R> apply(InvocationEvent<T> event, Context context) throws Exception;
+}
@@ -26,6 +26,9 @@ public interface Context {
   /**
    * Returns information about the invoking Salesforce organization and user.
    *
+   * <p>The returned {@link Org} is constructed when this method is first called, so functions that
+   * do not interact with the org do not pay for its initialization.
+   *
    * @return Information about the invoking Salesforce organization and user.
    */
   @Nonnull
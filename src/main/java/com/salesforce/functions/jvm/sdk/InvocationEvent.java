@@ -57,6 +57,12 @@ public interface InvocationEvent<T> {
   /**
    * Returns the unmarshalled payload of the event.
    *
+   * <p>When using {@link java.io.InputStream} for {@link T}, the payload is not unmarshalled or
+   * buffered. Instead, the returned stream reads the raw payload directly from the request as it is
+   * consumed. This allows large payloads to be processed incrementally, for example with a
+   * streaming JSON parser that only decodes the parts of the payload that are needed. The stream
+   * can only be read once and every call of this method returns the same stream instance.
+   *
    * @return The payload of the event.
    */
   @Nonnull
@@ -69,8 +75,8 @@ public interface InvocationEvent<T> {
    * before it was automatically unmarshalled into {@link T}.
    *
    * <p>When using POJOs and other higher level types for {@link T}, this value is most likely not
-   * very useful. When using raw bytes (by using byte[] for T), this value can be used to drive your
-   * custom unmarshalling process.
+   * very useful. When using raw bytes (by using byte[] or {@link java.io.InputStream} for T), this
+   * value can be used to drive your custom unmarshalling process.
    *
    * @return The media type of the event payload.
    * @see <a href="https://github.com/cloudevents/spec/blob/v1.0/spec.md#datacontenttype">CloudEvent
@@ -6,11 +6,22 @@
  */
 package com.salesforce.functions.jvm.sdk;
 
+import com.salesforce.functions.jvm.sdk.data.AsyncDataApi;
 import com.salesforce.functions.jvm.sdk.data.DataApi;
 import java.net.URI;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 
-/** Holds information about the invoking Salesforce organization and user. */
+/**
+ * Holds information about the invoking Salesforce organization and user.
+ *
+ * <p>All API requests made by the clients of an organization, including the clients of other
+ * invocations of the same function, pass through a shared token bucket rate limiter keyed by {@link
+ * #getId()}. Its rate adapts to the remaining API requests reported by the API (see {@link
+ * #getApiUsage()}), so concurrent invocations do not exhaust the daily allocation of the
+ * organization. How the rate is derived and how long requests may be queued is specified in the
+ * documentation of {@link DataApi}.
+ */
 public interface Org {
   /**
    * Returns the Salesforce organization ID.
@@ -51,12 +62,37 @@ public interface Org {
   /**
    * Returns an initialized data API client instance to interact with data in the org.
    *
+   * <p>The client is constructed when this method is first called and the same instance is returned
+   * for all subsequent calls.
+   *
    * @return An initialized data API client instance.
    */
   @Nonnull
   @SuppressWarnings("unused")
   DataApi getDataApi();
 
+  /**
+   * Returns an initialized asynchronous data API client instance to interact with data in the org.
+   *
+   * <p>The client is constructed when this method is first called and the same instance is returned
+   * for all subsequent calls.
+   *
+   * @return An initialized asynchronous data API client instance.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  AsyncDataApi getAsyncDataApi();
+
+  /**
+   * Returns the API request usage of the organization, as reported by the most recent API response
+   * received by any client of this organization. Empty if no response was received yet.
+   *
+   * @return The API request usage of the organization.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<ApiUsage> getApiUsage();
+
   /**
    * Returns the currently logged in user.
    *
@@ -9,6 +9,16 @@ package com.salesforce.functions.jvm.sdk;
 /**
  * Main interface for Salesforce Functions written in Java.
  *
+ * <p>A single instance of a function handles all invocations and may be applied concurrently from
+ * multiple threads. On Java 21 and later, runtimes may apply functions on virtual threads, allowing
+ * large amounts of concurrent invocations that mostly wait for I/O. Implementations must therefore
+ * be thread-safe. On Java versions before 24, they should also not perform blocking operations,
+ * such as {@link com.salesforce.functions.jvm.sdk.data.DataApi} calls, while holding a monitor of a
+ * {@code synchronized} block or method. On these versions, doing so pins the virtual thread to its
+ * carrier thread. Use {@link java.util.concurrent.locks.ReentrantLock} for mutual exclusion around
+ * blocking operations instead. Since JEP 491, Java 24 and later no longer pin virtual threads in
+ * this case.
+ *
  * @param <T> The type of the {@link InvocationEvent} payload this function can handle.
  * @param <R> The type of the response of this function.
  * @see java.util.function.BiFunction
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk;
+
+import java.util.stream.Stream;
+
+/**
+ * Interface for Salesforce Functions written in Java that produce a large result incrementally.
+ *
+ * <p>The response is a JSON array of the elements of the returned {@link Stream}. Elements are
+ * written to the response while the stream is consumed, so the beginning of the response is sent
+ * while later elements are still being produced. Only a small amount of elements is held in memory
+ * at any time. The stream is closed after the last element has been written or if writing the
+ * response fails.
+ *
+ * <p>Exceptions thrown while consuming the stream abort the response. Since parts of the response
+ * might already have been sent at that point, the invocation cannot be reported as failed with a
+ * regular error response.
+ *
+ * @param <T> The type of the {@link InvocationEvent} payload this function can handle.
+ * @param <R> The type of the elements of the response of this function.
+ * @see SalesforceFunction
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface StreamingSalesforceFunction<T, R> {
+
+  /**
+   * Applies the function to the given arguments.
+   *
+   * @param event The invocation event for this function application.
+   * @param context The context for this function application.
+   * @return A lazily populated {@link Stream} of the elements of the result of this function
+   *     application.
+   * @throws Exception If an unrecoverable exception occurred during function application.
+   */
+  Stream<R> apply(InvocationEvent<T> event, Context context) throws Exception;
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data;
+
+import com.salesforce.functions.jvm.sdk.Org;
+import com.salesforce.functions.jvm.sdk.data.builder.RecordBuilder;
+import com.salesforce.functions.jvm.sdk.data.builder.UnitOfWorkBuilder;
+import com.salesforce.functions.jvm.sdk.data.error.DataApiException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nonnull;
+
+/**
+ * Asynchronous Data API client to interact with data in a Salesforce org. Provides the same
+ * operations as {@link DataApi}, but does not block the calling thread while waiting for the API to
+ * respond. This allows issuing many independent queries and modifications concurrently.
+ *
+ * <p>All returned {@link CompletableFuture}s complete exceptionally with a {@link DataApiException}
+ * if an API error occurred during the operation.
+ *
+ * <p>The amount of concurrently executing requests is bounded per {@link Org} (see {@link
+ * #getMaxConcurrentRequests()}). Operations that exceed that limit are queued and executed in
+ * submission order as soon as earlier requests complete.
+ *
+ * <p>Requests are subject to the rate limiter of the {@link Org} as specified for {@link DataApi}.
+ * Requests rejected by the rate limiter complete their {@link CompletableFuture} exceptionally with
+ * a {@link DataApiException}, as a blocking call would throw it.
+ *
+ * <p>{@link Record} and {@link UnitOfWork} instances built with builders obtained from the {@link
+ * DataApi} of the same {@link Org} can be used with this client.
+ *
+ * @see Org#getAsyncDataApi()
+ * @see DataApi
+ */
+public interface AsyncDataApi {
+
+  /**
+   * Queries for records with a given SOQL string.
+   *
+   * @param soql The SOQL string.
+   * @return A {@link CompletableFuture} that completes with a {@link RecordQueryResult} that
+   *     contains the queried data.
+   * @see DataApi#query(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  CompletableFuture<RecordQueryResult> query(String soql);
+
+  /**
+   * Queries for more records, based on the given {@link RecordQueryResult}.
+   *
+   * @param queryResult The query result to query more data for.
+   * @return A {@link CompletableFuture} that completes with a new {@link RecordQueryResult} with
+   *     additional data or an empty one if the given RecordQueryResult was already in the done
+   *     state.
+   * @throws IllegalArgumentException If the {@link RecordQueryResult} instance wasn't created by
+   *     this {@link AsyncDataApi} instance or the {@link DataApi} of the same {@link Org}.
+   * @see DataApi#queryMore(RecordQueryResult)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  CompletableFuture<RecordQueryResult> queryMore(RecordQueryResult queryResult);
+
+  /**
+   * Creates a new record of the given type with the given fields.
+   *
+   * @param record The record to create.
+   * @return A {@link CompletableFuture} that completes with a {@link RecordModificationResult} for
+   *     this operation.
+   * @throws IllegalArgumentException If the {@link Record} instance wasn't created by a {@link
+   *     RecordBuilder} obtained from the {@link DataApi} of the same {@link Org}.
+   * @see DataApi#create(Record)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  CompletableFuture<RecordModificationResult> create(Record record);
+
+  /**
+   * Updates an existing record of the given type and id with the given fields.
+   *
+   * <p>Like {@link DataApi#update(Record)}, only the Id field and the fields returned by {@link
+   * Record#getModifiedFieldNames()} are sent to the API. This also applies to updates that are
+   * batched (see {@link #withBatching(int, Duration)}).
+   *
+   * @param record The record to update.
+   * @return A {@link CompletableFuture} that completes with a {@link RecordModificationResult} for
+   *     this operation.
+   * @throws IllegalArgumentException If the {@link Record} instance wasn't created by a {@link
+   *     RecordBuilder} obtained from the {@link DataApi} of the same {@link Org}.
+   * @see DataApi#update(Record)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  CompletableFuture<RecordModificationResult> update(Record record);
+
+  /**
+   * Updates an existing record like {@link #update(Record)}, but does not send a request if the
+   * record has no modified fields (see {@link Record#getModifiedFieldNames()}). In that case, the
+   * returned {@link CompletableFuture} is already completed with an empty {@link Optional}.
+   *
+   * @param record The record to update.
+   * @return A {@link CompletableFuture} that completes with a {@link RecordModificationResult} for
+   *     this operation or an empty {@link Optional} if the record had no modified fields.
+   * @throws IllegalArgumentException If the {@link Record} instance wasn't created by a {@link
+   *     RecordBuilder} obtained from the {@link DataApi} of the same {@link Org}.
+   * @see DataApi#updateIfModified(Record)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  CompletableFuture<Optional<RecordModificationResult>> updateIfModified(Record record);
+
+  /**
+   * Deletes an existing record of the given type and id.
+   *
+   * @param type The object type of the record to delete.
+   * @param id The id of the record to delete.
+   * @return A {@link CompletableFuture} that completes with a {@link RecordModificationResult} for
+   *     this operation.
+   * @see DataApi#delete(String, String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  CompletableFuture<RecordModificationResult> delete(String type, String id);
+
+  /**
+   * Commits a {@link UnitOfWork}, executing all operations registered with it. If any of these
+   * operations fail, the whole unit is rolled back.
+   *
+   * @param unitOfWork The {@link UnitOfWork} to commit.
+   * @return A {@link CompletableFuture} that completes with a map of {@link
+   *     RecordModificationResult}s, indexed by their {@link ReferenceId}s.
+   * @throws IllegalArgumentException If the {@link UnitOfWork} instance wasn't created by a {@link
+   *     UnitOfWorkBuilder} obtained from the {@link DataApi} of the same {@link Org}.
+   * @see DataApi#commitUnitOfWork(UnitOfWork)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  CompletableFuture<Map<ReferenceId, RecordModificationResult>> commitUnitOfWork(
+      UnitOfWork unitOfWork);
+
+  /**
+   * Returns a new {@link AsyncDataApi} that automatically batches record modifications. Calls to
+   * {@link #create(Record)}, {@link #update(Record)}, {@link #updateIfModified(Record)} and {@link
+   * #delete(String, String)} are collected and sent as a single SObject Collections request once
+   * either the given amount of operations of the same kind has been collected or the given delay
+   * has passed since the first operation of a batch was submitted, whichever happens first.
+   *
+   * <p>Operations in a batch are executed independently of each other. Each returned {@link
+   * CompletableFuture} completes with the {@link RecordModificationResult} of its own operation or
+   * exceptionally with a {@link DataApiException} that only contains the errors of that operation.
+   * A failing operation does not cause other operations in the same batch to fail.
+   *
+   * <p>Calls to {@link #updateIfModified(Record)} for records without modified fields are not added
+   * to a batch. All other operations are passed through without batching. This instance is not
+   * affected by calling this method.
+   *
+   * @param maxBatchSize The maximum amount of operations in a single batch, between 1 and 200.
+   * @param maxBatchDelay The maximum amount of time an operation waits for its batch to be sent.
+   * @return A new {@link AsyncDataApi} that batches record modifications.
+   * @throws IllegalArgumentException If maxBatchSize is not between 1 and 200 or maxBatchDelay is
+   *     negative.
+   * @see <a
+   *     href="https://developer.salesforce.com/docs/atlas.en-us.api_rest.meta/api_rest/resources_composite_sobjects_collections.htm">REST
+   *     API Developer Guide - SObject Collections</a>
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  AsyncDataApi withBatching(int maxBatchSize, Duration maxBatchDelay);
+
+  /**
+   * Returns the maximum amount of requests this client executes concurrently. The limit is shared
+   * by all {@link AsyncDataApi} instances of the same {@link Org}.
+   *
+   * @return The maximum amount of concurrently executing requests.
+   */
+  @SuppressWarnings("unused")
+  int getMaxConcurrentRequests();
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data;
+
+import com.salesforce.functions.jvm.sdk.Org;
+import java.time.Duration;
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link DataApi} that caches query results. Use it for queries that are executed frequently and
+ * return data that rarely changes, such as configuration records or picklist values.
+ *
+ * <p>Results of {@link #query(String)} are cached when the query result is done (see {@link
+ * RecordQueryResult#isDone()}). Results that require {@link #queryMore(RecordQueryResult)} are
+ * never cached. All other query methods, including {@link #query(String, QueryOptions)}, {@link
+ * #streamQuery(String)}, {@link #queryColumnar(String)}, {@link #queryIntoRecordStore(String,
+ * java.nio.file.Path)} and the queries of {@link #getBulkApi()}, neither use nor populate the cache
+ * and always send their queries to the API.
+ *
+ * <p>Cache entries are keyed by the normalized SOQL string, the id of the {@link Org}, the id of
+ * the user and the API version. They are held in a process-wide cache that is shared by all {@link
+ * CachingDataApi} instances created with the same time-to-live and maximum size, including
+ * instances of other invocations of the same function. This allows reference data to be queried
+ * once instead of on every invocation, while the key ensures that results are never shared between
+ * orgs, users or API versions. Instances created with a different time-to-live or maximum size use
+ * a separate cache, so the configuration of an instance always applies to the entries it uses.
+ *
+ * <p>Entries expire once their time-to-live elapsed. When the estimated size of all entries of a
+ * cache exceeds its maximum, the least recently used entries are evicted first.
+ *
+ * <p>Entries of queries that reference a modified object type are invalidated when records of that
+ * type are modified through any {@link CachingDataApi} instance sharing the cache. {@link
+ * #create(Record)}, {@link #update(Record)}, {@link #updateIfModified(Record)} and {@link
+ * #delete(String, String)} invalidate entries once the request completed, whether it succeeded or
+ * not. {@link #commitUnitOfWork(UnitOfWork)} and {@link #commitUnitOfWorkInParallel(UnitOfWork)}
+ * invalidate entries for the object types of all registered operations once the call completed,
+ * including calls that threw a {@link com.salesforce.functions.jvm.sdk.data.error.DataApiException}
+ * after committing only some requests. Ingest jobs created via the {@link
+ * com.salesforce.functions.jvm.sdk.data.bulk.BulkApi} of {@link #getBulkApi()} invalidate entries
+ * of their object type when the job is created and again when a final state of the job is observed
+ * via {@link com.salesforce.functions.jvm.sdk.data.bulk.BulkJob#getState()} or {@link
+ * com.salesforce.functions.jvm.sdk.data.bulk.BulkJob#awaitCompletion(Duration)}.
+ *
+ * <p>Modifications made by other clients, including {@link AsyncDataApi} instances and {@link
+ * DataApi} instances that do not share the cache, are not detected.
+ *
+ * @see DataApi#withQueryCache(Duration, long)
+ */
+public interface CachingDataApi extends DataApi {
+  /**
+   * Returns a snapshot of the statistics of the cache used by this instance. Since the cache is
+   * shared, the statistics include the activity of all instances that use it.
+   *
+   * @return A snapshot of the cache statistics.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  QueryCacheStatistics getQueryCacheStatistics();
+
+  /**
+   * Invalidates all cached entries of queries that reference the given object type.
+   *
+   * @param type The object type.
+   */
+  @SuppressWarnings("unused")
+  void invalidateQueryCache(String type);
+
+  /**
+   * Invalidates all cached entries that are accessible by this instance, i.e. all entries for the
+   * org, user and API version of this instance. This also affects other instances sharing the
+   * cache.
+   */
+  @SuppressWarnings("unused")
+  void invalidateQueryCache();
+}
@@ -6,13 +6,57 @@
  */
 package com.salesforce.functions.jvm.sdk.data;
 
+import com.salesforce.functions.jvm.sdk.data.builder.QueryOptionsBuilder;
 import com.salesforce.functions.jvm.sdk.data.builder.RecordBuilder;
+import com.salesforce.functions.jvm.sdk.data.builder.ResilienceOptionsBuilder;
 import com.salesforce.functions.jvm.sdk.data.builder.UnitOfWorkBuilder;
+import com.salesforce.functions.jvm.sdk.data.bulk.BulkApi;
+import com.salesforce.functions.jvm.sdk.data.codec.RecordCodec;
+import com.salesforce.functions.jvm.sdk.data.codec.RecordCodecFormat;
+import com.salesforce.functions.jvm.sdk.data.columnar.ColumnarRecordQueryResult;
+import com.salesforce.functions.jvm.sdk.data.error.DataApiError;
 import com.salesforce.functions.jvm.sdk.data.error.DataApiException;
+import com.salesforce.functions.jvm.sdk.data.error.UncheckedDataApiException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
-/** Data API client to interact with data in a Salesforce org. */
+/**
+ * Data API client to interact with data in a Salesforce org.
+ *
+ * <p>Implementations must be thread-safe. They should send requests over persistent, pooled HTTP
+ * connections that are shared by all clients for the same {@link
+ * com.salesforce.functions.jvm.sdk.Org#getDomainUrl()}, including clients of other invocations of
+ * the same function. Where the server supports it, requests should be multiplexed over HTTP/2
+ * connections. This avoids establishing new TCP and TLS connections for every invocation.
+ *
+ * <p>Blocking methods of implementations must not wait for I/O while holding a monitor of a {@code
+ * synchronized} block or method. On Java versions before 24, doing so pins virtual threads to their
+ * carrier thread (see JEP 491); avoiding it ensures that calls made on virtual threads release
+ * their carrier thread while waiting for the API to respond.
+ *
+ * <p>All requests pass through the rate limiter shared by all clients of the same {@link
+ * com.salesforce.functions.jvm.sdk.Org}. While no {@link com.salesforce.functions.jvm.sdk.ApiUsage}
+ * is known yet or at least 10% of the daily API request allocation of the org remain, requests are
+ * not rate limited. Below that, the rate is the amount of remaining requests ({@link
+ * com.salesforce.functions.jvm.sdk.ApiUsage#getMaxRequests()} minus {@link
+ * com.salesforce.functions.jvm.sdk.ApiUsage#getUsedRequests()}) spread evenly over 24 hours, and
+ * drops to zero once the allocation is used up. The rate is recalculated with every API response.
+ * While the rate is zero, one request per minute is still sent, so that the rate recovers once the
+ * API reports available requests again.
+ *
+ * <p>Requests that exceed the current rate are queued in the order they were made, for at most 10
+ * seconds. A request that cannot be sent within that time at the current rate, which includes all
+ * requests while the rate is zero, fails immediately without waiting and without being sent, with a
+ * {@link DataApiException} containing a single {@link DataApiError} whose {@link
+ * DataApiError#getErrorCode()} is {@link DataApiError#REQUEST_LIMIT_EXCEEDED_ERROR_CODE}. Such
+ * rejections are not retried (see {@link #withResilience(ResilienceOptions)}). The time requests
+ * spend queued is reported to {@link
+ * com.salesforce.functions.jvm.sdk.metrics.DataApiMetricsRecorder#recordRateLimiterWait}.
+ */
 public interface DataApi {
 
   /**
@@ -29,6 +73,24 @@ public interface DataApi {
   @SuppressWarnings("unused")
   RecordQueryResult query(String soql) throws DataApiException;
 
+  /**
+   * Queries for records with a given SOQL string, using the given {@link QueryOptions}. The options
+   * also apply to all subsequent calls of {@link #queryMore(RecordQueryResult)} for the returned
+   * query result.
+   *
+   * @param soql The SOQL string.
+   * @param options The options for the query.
+   * @return a {@link RecordQueryResult} that contains the queried data.
+   * @throws DataApiException If error occurred during the query.
+   * @throws IllegalArgumentException If the {@link QueryOptions} instance wasn't created by a
+   *     {@link QueryOptionsBuilder} obtained from this {@link DataApi} instance.
+   * @see #query(String)
+   * @see #newQueryOptionsBuilder()
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordQueryResult query(String soql, QueryOptions options) throws DataApiException;
+
   /**
    * Queries for more records, based on the given {@link RecordQueryResult}.
    *
@@ -44,6 +106,80 @@ public interface DataApi {
   @SuppressWarnings("unused")
   RecordQueryResult queryMore(RecordQueryResult queryResult) throws DataApiException;
 
+  /**
+   * Queries for records with a given SOQL string and returns all of them as a lazily populated
+   * {@link Stream}. Additional batches of records are automatically fetched as the stream is
+   * consumed, removing the need to call {@link #queryMore(RecordQueryResult)} manually.
+   *
+   * <p>The first batch of records is queried before this method returns. While the records of a
+   * batch are being consumed, the next batch is already fetched in the background. Batches are not
+   * retained after their records have been consumed, keeping memory usage bounded to roughly two
+   * batches, regardless of the total amount of records returned by the query.
+   *
+   * <p>Errors that occur while fetching subsequent batches are thrown from the stream's terminal
+   * operation as {@link UncheckedDataApiException}. The returned stream should be closed after use
+   * (i.e. with a try-with-resources statement) to cancel any outstanding background fetches.
+   *
+   * @param soql The SOQL string.
+   * @return A sequential {@link Stream} of all {@link RecordWithSubQueryResults} returned by the
+   *     query.
+   * @throws DataApiException If error occurred during the initial query.
+   * @see #query(String)
+   * @see #queryMore(RecordQueryResult)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Stream<RecordWithSubQueryResults> streamQuery(String soql) throws DataApiException;
+
+  /**
+   * Queries for all records with a given SOQL string and stores them outside of the Java heap.
+   * Additional batches of records are queried automatically until all records have been retrieved.
+   * Each batch is written to the store as soon as it was received and is not retained afterwards.
+   *
+   * <p>Use this method for queries that return more records than fit into the memory available to
+   * the function. The returned {@link RecordStore} must be closed after use.
+   *
+   * @param soql The SOQL string.
+   * @param directory The directory to create the files of the store in.
+   * @return A {@link RecordStore} that contains all queried records.
+   * @throws DataApiException If error occurred during the query.
+   * @throws java.io.UncheckedIOException If an I/O error occurred while writing the records.
+   * @see RecordStore
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordStore queryIntoRecordStore(String soql, Path directory) throws DataApiException;
+
+  /**
+   * Queries for records with a given SOQL string and returns the result in a column-oriented
+   * layout. Use this method for large queries that aggregate or filter numeric fields, where
+   * creating an object per record would be wasteful.
+   *
+   * @param soql The SOQL string.
+   * @return a {@link ColumnarRecordQueryResult} that contains the queried data.
+   * @throws DataApiException If error occurred during the query.
+   * @see #query(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  ColumnarRecordQueryResult queryColumnar(String soql) throws DataApiException;
+
+  /**
+   * Queries for more records, based on the given {@link ColumnarRecordQueryResult}.
+   *
+   * @param queryResult The query result to query more data for.
+   * @return A new {@link ColumnarRecordQueryResult} with additional data or an empty one if the
+   *     given ColumnarRecordQueryResult was already in the done state.
+   * @throws DataApiException If error occurred during the query.
+   * @throws IllegalArgumentException If the {@link ColumnarRecordQueryResult} instance wasn't
+   *     created by this {@link DataApi} instance.
+   * @see ColumnarRecordQueryResult#isDone()
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  ColumnarRecordQueryResult queryMore(ColumnarRecordQueryResult queryResult)
+      throws DataApiException;
+
   /**
    * Creates a new record of the given type with the given fields.
    *
@@ -60,16 +196,36 @@ public interface DataApi {
   /**
    * Updates an existing record of the given type and id with the given fields.
    *
+   * <p>Only the Id field and the fields returned by {@link Record#getModifiedFieldNames()} are sent
+   * to the API. Unmodified fields of a record obtained from a query are not updated.
+   *
    * @param record The record to update.
    * @return A {@link RecordModificationResult} for this operation.
    * @throws DataApiException If an API error occurred during record update.
    * @throws IllegalArgumentException If the {@link Record} instance wasn't created by a {@link
    *     RecordBuilder} obtained from this {@link DataApi} instance.
+   * @see #updateIfModified(Record)
    */
   @Nonnull
   @SuppressWarnings("unused")
   RecordModificationResult update(Record record) throws DataApiException;
 
+  /**
+   * Updates an existing record like {@link #update(Record)}, but does not send a request if the
+   * record has no modified fields (see {@link Record#getModifiedFieldNames()}).
+   *
+   * @param record The record to update.
+   * @return A {@link RecordModificationResult} for this operation or an empty {@link Optional} if
+   *     the record had no modified fields.
+   * @throws DataApiException If an API error occurred during record update.
+   * @throws IllegalArgumentException If the {@link Record} instance wasn't created by a {@link
+   *     RecordBuilder} obtained from this {@link DataApi} instance.
+   * @see #update(Record)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<RecordModificationResult> updateIfModified(Record record) throws DataApiException;
+
   /**
    * Deletes an existing record of the given type and id.
    *
@@ -97,6 +253,11 @@ public interface DataApi {
    * Creates a new RecordBuilder, pre-initialized from the given {@link Record}. The type and all
    * fields present in that Record will be set on the returned RecordBuilder.
    *
+   * <p>The returned RecordBuilder does not copy the fields of the given {@link Record}. Instead, it
+   * shares them with the Record and only stores the fields that are changed on the builder. Records
+   * built from it share unchanged fields in the same way. This makes copying and modifying records
+   * cheap, even for records with many fields.
+   *
    * @param record The {@link Record} to copy the type and fields from.
    * @return A new RecordBuilder, pre-initialized from the given {@link Record}.
    * @throws IllegalArgumentException If the {@link Record} instance wasn't created by a {@link
@@ -106,6 +267,16 @@ public interface DataApi {
   @SuppressWarnings("unused")
   RecordBuilder newRecordBuilder(Record record);
 
+  /**
+   * Creates a new QueryOptionsBuilder that can be used to build a {@link QueryOptions} object for
+   * use with the {@link #query(String, QueryOptions)} method.
+   *
+   * @return A new QueryOptionsBuilder with all options set to their defaults.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  QueryOptionsBuilder newQueryOptionsBuilder();
+
   /**
    * Creates a new and empty UnitOfWorkBuilder that can be used to build a {@link UnitOfWork} object
    * for the {@link #commitUnitOfWork(UnitOfWork)} method.
@@ -135,6 +306,127 @@ public interface DataApi {
   Map<ReferenceId, RecordModificationResult> commitUnitOfWork(UnitOfWork unitOfWork)
       throws DataApiException;
 
+  /**
+   * Commits a {@link UnitOfWork} by splitting it into independent parts which are committed in
+   * parallel. Use this method for large units of work that would exceed the request size limits of
+   * {@link #commitUnitOfWork(UnitOfWork)}.
+   *
+   * <p>Two operations are dependent if one references the other via a {@link ReferenceId} field
+   * value (see {@link RecordBuilder#withField(String, ReferenceId)}), or if both target the same
+   * record, i.e. they update or delete the same record id. Operations that are dependent on each
+   * other, directly or transitively, form a group and are always committed together in the same
+   * request, in the order they were registered. There is no ordering between different groups. Each
+   * request is executed transactionally on its own: if any of its operations fail, only the
+   * operations of that request are rolled back.
+   *
+   * <p>Groups are never split. If a single group contains more operations than fit into one
+   * request, this method throws an {@link IllegalArgumentException} before any request is sent.
+   *
+   * <p>The returned map has the same structure as the one returned by {@link
+   * #commitUnitOfWork(UnitOfWork)}. If one or more requests fail, a {@link DataApiException} is
+   * thrown after all requests completed. The results of the operations that were committed
+   * successfully are available via {@link DataApiException#getCommittedResults()}. Every other
+   * operation is reported in {@link DataApiException#getDataApiErrors()} with at least one error
+   * associated with its {@link ReferenceId} via {@link DataApiError#getReferenceId()}. This
+   * includes operations that were rolled back because another operation of the same request failed:
+   * they are reported with an error whose {@link DataApiError#getErrorCode()} is {@link
+   * DataApiError#PROCESSING_HALTED_ERROR_CODE}. Each operation of the {@link UnitOfWork} is
+   * therefore either contained in the committed results or referenced by at least one error.
+   *
+   * @param unitOfWork The {@link UnitOfWork} to commit.
+   * @return A map of {@link RecordModificationResult}s, indexed by their {@link ReferenceId}s.
+   * @throws DataApiException If an error occurred while committing any part of the UnitOfWork.
+   * @throws IllegalArgumentException If the {@link UnitOfWork} instance wasn't created by a {@link
+   *     UnitOfWorkBuilder} obtained from this {@link DataApi} instance or if a group of dependent
+   *     operations does not fit into a single request.
+   * @see #commitUnitOfWork(UnitOfWork)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Map<ReferenceId, RecordModificationResult> commitUnitOfWorkInParallel(UnitOfWork unitOfWork)
+      throws DataApiException;
+
+  /**
+   * Returns a new {@link CachingDataApi} that caches the results of queries made through it. The
+   * returned instance uses the same org and credentials as this {@link DataApi}. This instance is
+   * not affected by calling this method.
+   *
+   * <p>The returned instance uses the process-wide cache for the given time-to-live and maximum
+   * size, which is shared with other instances created with the same values, including instances of
+   * other invocations (see {@link CachingDataApi}).
+   *
+   * @param timeToLive The amount of time a query result is cached.
+   * @param maxSizeInBytes The maximum estimated size of all cached query results, in bytes.
+   * @return A new {@link CachingDataApi}.
+   * @throws IllegalArgumentException If timeToLive is negative or maxSizeInBytes is not positive.
+   * @see CachingDataApi
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  CachingDataApi withQueryCache(Duration timeToLive, long maxSizeInBytes);
+
+  /**
+   * Creates a new ResilienceOptionsBuilder that can be used to build a {@link ResilienceOptions}
+   * object for use with the {@link #withResilience(ResilienceOptions)} method.
+   *
+   * @return A new ResilienceOptionsBuilder with all options set to their defaults.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  ResilienceOptionsBuilder newResilienceOptionsBuilder();
+
+  /**
+   * Returns a new {@link DataApi} that retries failed queries, optionally sends hedged requests and
+   * uses a circuit breaker, as configured by the given {@link ResilienceOptions}. The returned
+   * instance uses the same org and credentials as this {@link DataApi}. This instance is not
+   * affected by calling this method.
+   *
+   * <p>Retries are reported to {@link
+   * com.salesforce.functions.jvm.sdk.metrics.DataApiMetricsRecorder}s as part of the recorded
+   * request.
+   *
+   * @param options The options to use.
+   * @return A new {@link DataApi} with the given resilience options.
+   * @throws IllegalArgumentException If the {@link ResilienceOptions} instance wasn't created by a
+   *     {@link ResilienceOptionsBuilder} obtained from this {@link DataApi} instance.
+   * @see #newResilienceOptionsBuilder()
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  DataApi withResilience(ResilienceOptions options);
+
+  /**
+   * Returns a Bulk API client that uses the same org and credentials as this {@link DataApi}. Use
+   * it to process large amounts of records with asynchronous jobs.
+   *
+   * @return A Bulk API client.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  BulkApi getBulkApi();
+
+  /**
+   * Returns a {@link RecordCodec} to serialize and deserialize records and query results in the
+   * JSON format of the Salesforce REST API. Same as {@code getRecordCodec(RecordCodecFormat.JSON)}.
+   *
+   * @return A {@link RecordCodec} associated with this {@link DataApi}.
+   * @see #getRecordCodec(RecordCodecFormat)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordCodec getRecordCodec();
+
+  /**
+   * Returns a {@link RecordCodec} to serialize and deserialize records and query results in the
+   * given format.
+   *
+   * @param format The format of the codec.
+   * @return A {@link RecordCodec} associated with this {@link DataApi}.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordCodec getRecordCodec(RecordCodecFormat format);
+
   /**
    * Returns the access token used by this API client. Can be used to initialize a third-party API
    * client or to perform custom API calls with a HTTP library.
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data;
+
+import com.salesforce.functions.jvm.sdk.data.builder.RecordBuilder;
+import java.util.Locale;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A pre-resolved field name. Field names are compared case-insensitively, which requires
+ * normalizing the name on every access when using {@link String} field names. A FieldKey performs
+ * that normalization once, allowing implementations to look up fields by the normalized name and a
+ * precomputed hash code.
+ *
+ * <p>Obtain instances with {@link #of(String)} once, for example in a static field, and reuse them
+ * across records. FieldKeys are not interned: each call to {@link #of(String)} returns a new
+ * instance that keeps the spelling of the given name. FieldKeys of names that only differ in case
+ * are equal.
+ *
+ * <p>Instances are immutable and therefore thread-safe.
+ *
+ * @see RecordAccessor
+ * @see RecordBuilder
+ */
+@Immutable
+public final class FieldKey {
+  private final String name;
+  private final String normalizedName;
+  private final int hashCode;
+
+  private FieldKey(String name) {
+    this.name = name;
+    this.normalizedName = name.toLowerCase(Locale.ROOT);
+    this.hashCode = normalizedName.hashCode();
+  }
+
+  /**
+   * Returns a FieldKey for the given field name.
+   *
+   * @param name The name of the field.
+   * @return A FieldKey for the given field name.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  public static FieldKey of(String name) {
+    return new FieldKey(name);
+  }
+
+  /**
+   * Returns the name of the field, spelled as it was passed to {@link #of(String)}. This is the
+   * name used when the field is set via {@link RecordBuilder} and when it is written, for example
+   * by a {@link com.salesforce.functions.jvm.sdk.data.codec.RecordCodec}.
+   *
+   * @return The name of the field.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the lower-cased name of the field, as used for case-insensitive comparison.
+   *
+   * @return The lower-cased name of the field.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  public String getNormalizedName() {
+    return normalizedName;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    FieldKey fieldKey = (FieldKey) o;
+    return hashCode == fieldKey.hashCode && normalizedName.equals(fieldKey.normalizedName);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A snapshot of the statistics of a query cache. Counts are cumulative since the cache was created.
+ *
+ * <p>All implementations must be immutable and therefore thread-safe.
+ *
+ * @see CachingDataApi#getQueryCacheStatistics()
+ */
+@Immutable
+public interface QueryCacheStatistics {
+  /**
+   * Returns the amount of queries that were answered from the cache.
+   *
+   * @return The amount of cache hits.
+   */
+  @SuppressWarnings("unused")
+  long getHitCount();
+
+  /**
+   * Returns the amount of queries that were sent to the API because no cached entry was present.
+   *
+   * @return The amount of cache misses.
+   */
+  @SuppressWarnings("unused")
+  long getMissCount();
+
+  /**
+   * Returns the amount of entries that were evicted because the cache exceeded its maximum size.
+   *
+   * @return The amount of evicted entries.
+   */
+  @SuppressWarnings("unused")
+  long getEvictionCount();
+
+  /**
+   * Returns the amount of entries that were removed because they expired.
+   *
+   * @return The amount of expired entries.
+   */
+  @SuppressWarnings("unused")
+  long getExpirationCount();
+
+  /**
+   * Returns the amount of entries that were removed because of record modifications or explicit
+   * invalidation.
+   *
+   * @return The amount of invalidated entries.
+   */
+  @SuppressWarnings("unused")
+  long getInvalidationCount();
+
+  /**
+   * Returns the amount of entries currently in the cache.
+   *
+   * @return The amount of entries currently in the cache.
+   */
+  @SuppressWarnings("unused")
+  long getEntryCount();
+
+  /**
+   * Returns the estimated size of all entries currently in the cache, in bytes.
+   *
+   * @return The estimated size of all entries, in bytes.
+   */
+  @SuppressWarnings("unused")
+  long getEstimatedSizeInBytes();
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data;
+
+import com.salesforce.functions.jvm.sdk.data.builder.QueryOptionsBuilder;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Represents options for a record query. Instances can be created via {@link
+ * DataApi#newQueryOptionsBuilder()}.
+ *
+ * <p>All implementations must be immutable and therefore thread-safe.
+ *
+ * @see DataApi#newQueryOptionsBuilder()
+ * @see DataApi#query(String, QueryOptions)
+ * @see QueryOptionsBuilder
+ */
+@Immutable
+public interface QueryOptions {}
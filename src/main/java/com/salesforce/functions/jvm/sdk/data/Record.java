@@ -6,6 +6,9 @@
  */
 package com.salesforce.functions.jvm.sdk.data;
 
+import com.salesforce.functions.jvm.sdk.data.builder.RecordBuilder;
+import java.util.Set;
+import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -14,4 +17,30 @@ import javax.annotation.concurrent.Immutable;
  * <p>Implementations must be immutable and therefore thread-safe.
  */
 @Immutable
-public interface Record extends RecordAccessor {}
+public interface Record extends RecordAccessor {
+  /**
+   * Returns the names of all fields that were modified when building this record.
+   *
+   * <p>For records built with a {@link RecordBuilder} obtained from {@link
+   * DataApi#newRecordBuilder(Record)}, these are the modified fields of the source record plus the
+   * fields that were set on the builder. Since records returned by a query have no modified fields,
+   * deriving a record from a query result only tracks the fields set on the builder, while deriving
+   * a record from another derived record accumulates the modifications of both. For records built
+   * with a {@link RecordBuilder} obtained from {@link DataApi#newRecordBuilder(String)}, these are
+   * all fields of the record. For records returned by a query, this set is empty. For records read
+   * by a {@link com.salesforce.functions.jvm.sdk.data.codec.RecordCodec}, see the documentation of
+   * the codec.
+   *
+   * <p>Setting a field, including setting it to {@code null} with {@link
+   * RecordBuilder#withNullField(String)}, counts as a modification even if the new value is equal
+   * to the previous value; values are not compared. Removing a field with {@link
+   * RecordBuilder#withoutField(String)} removes it from the record and from this set, so removed
+   * fields are not sent to the API.
+   *
+   * @return The names of all fields that were modified when building this record.
+   * @see DataApi#update(Record)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Set<String> getModifiedFieldNames();
+}
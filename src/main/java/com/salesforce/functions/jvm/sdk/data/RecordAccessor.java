@@ -8,6 +8,7 @@ package com.salesforce.functions.jvm.sdk.data;
 
 import com.salesforce.functions.jvm.sdk.data.builder.RecordBuilder;
 import com.salesforce.functions.jvm.sdk.data.error.FieldConversionException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
@@ -103,6 +104,25 @@ public interface RecordAccessor {
   @SuppressWarnings("unused")
   Optional<Boolean> getBooleanField(String name);
 
+  /**
+   * Returns the value of a field as a {@code boolean} or the given default value if the field is
+   * not present or null. The field name is compared case-insensitively.
+   *
+   * <p>Values are converted the same way as by {@link #getBooleanField(String)}. Unlike that
+   * method, this method does not allocate any objects, which makes it suitable for reading many
+   * records in performance sensitive code.
+   *
+   * @param name The name of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @throws FieldConversionException If the value could not be converted into a {@code boolean}
+   *     value.
+   * @return The value of the field as a {@code boolean} or the default value if the field is not
+   *     present or null.
+   * @see #getBooleanField(String)
+   */
+  @SuppressWarnings("unused")
+  boolean getBooleanField(String name, boolean defaultValue);
+
   /**
    * Returns the value of a field as a {@link Byte}, which may involve rounding or truncation. The
    * field name is compared case-insensitively.
@@ -136,6 +156,24 @@ public interface RecordAccessor {
   @SuppressWarnings("unused")
   Optional<Byte> getByteField(String name);
 
+  /**
+   * Returns the value of a field as a {@code byte} or the given default value if the field is not
+   * present or null. The field name is compared case-insensitively.
+   *
+   * <p>Values are converted the same way as by {@link #getByteField(String)}. Unlike that method,
+   * this method does not allocate any objects, which makes it suitable for reading many records in
+   * performance sensitive code.
+   *
+   * @param name The name of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @throws FieldConversionException If the value could not be converted into a {@code byte} value.
+   * @return The value of the field as a {@code byte} or the default value if the field is not
+   *     present or null.
+   * @see #getByteField(String)
+   */
+  @SuppressWarnings("unused")
+  byte getByteField(String name, byte defaultValue);
+
   /**
    * Returns the value of a field as a {@link Short}, which may involve rounding or truncation. The
    * field name is compared case-insensitively.
@@ -169,6 +207,25 @@ public interface RecordAccessor {
   @SuppressWarnings("unused")
   Optional<Short> getShortField(String name);
 
+  /**
+   * Returns the value of a field as a {@code short} or the given default value if the field is not
+   * present or null. The field name is compared case-insensitively.
+   *
+   * <p>Values are converted the same way as by {@link #getShortField(String)}. Unlike that method,
+   * this method does not allocate any objects, which makes it suitable for reading many records in
+   * performance sensitive code.
+   *
+   * @param name The name of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @throws FieldConversionException If the value could not be converted into a {@code short}
+   *     value.
+   * @return The value of the field as a {@code short} or the default value if the field is not
+   *     present or null.
+   * @see #getShortField(String)
+   */
+  @SuppressWarnings("unused")
+  short getShortField(String name, short defaultValue);
+
   /**
    * Returns the value of a field as an {@link Integer}, which may involve rounding or truncation.
    * The field name is compared case-insensitively.
@@ -202,6 +259,24 @@ public interface RecordAccessor {
   @SuppressWarnings("unused")
   Optional<Integer> getIntField(String name);
 
+  /**
+   * Returns the value of a field as an {@code int} or the given default value if the field is not
+   * present or null. The field name is compared case-insensitively.
+   *
+   * <p>Values are converted the same way as by {@link #getIntField(String)}. Unlike that method,
+   * this method does not allocate any objects, which makes it suitable for reading many records in
+   * performance sensitive code.
+   *
+   * @param name The name of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @throws FieldConversionException If the value could not be converted into an {@code int} value.
+   * @return The value of the field as an {@code int} or the default value if the field is not
+   *     present or null.
+   * @see #getIntField(String)
+   */
+  @SuppressWarnings("unused")
+  int getIntField(String name, int defaultValue);
+
   /**
    * Returns the value of a field as a {@link Long}, which may involve rounding or truncation. The
    * field name is compared case-insensitively.
@@ -235,6 +310,24 @@ public interface RecordAccessor {
   @SuppressWarnings("unused")
   Optional<Long> getLongField(String name);
 
+  /**
+   * Returns the value of a field as a {@code long} or the given default value if the field is not
+   * present or null. The field name is compared case-insensitively.
+   *
+   * <p>Values are converted the same way as by {@link #getLongField(String)}. Unlike that method,
+   * this method does not allocate any objects, which makes it suitable for reading many records in
+   * performance sensitive code.
+   *
+   * @param name The name of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @throws FieldConversionException If the value could not be converted into a {@code long} value.
+   * @return The value of the field as a {@code long} or the default value if the field is not
+   *     present or null.
+   * @see #getLongField(String)
+   */
+  @SuppressWarnings("unused")
+  long getLongField(String name, long defaultValue);
+
   /**
    * Returns the value of a field as a {@link Float}, which may involve rounding or truncation. The
    * field name is compared case-insensitively.
@@ -268,6 +361,25 @@ public interface RecordAccessor {
   @SuppressWarnings("unused")
   Optional<Float> getFloatField(String name);
 
+  /**
+   * Returns the value of a field as a {@code float} or the given default value if the field is not
+   * present or null. The field name is compared case-insensitively.
+   *
+   * <p>Values are converted the same way as by {@link #getFloatField(String)}. Unlike that method,
+   * this method does not allocate any objects, which makes it suitable for reading many records in
+   * performance sensitive code.
+   *
+   * @param name The name of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @throws FieldConversionException If the value could not be converted into a {@code float}
+   *     value.
+   * @return The value of the field as a {@code float} or the default value if the field is not
+   *     present or null.
+   * @see #getFloatField(String)
+   */
+  @SuppressWarnings("unused")
+  float getFloatField(String name, float defaultValue);
+
   /**
    * Returns the value of a field as a {@link Double}, which may involve rounding or truncation. The
    * field name is compared case-insensitively.
@@ -301,6 +413,25 @@ public interface RecordAccessor {
   @SuppressWarnings("unused")
   Optional<Double> getDoubleField(String name);
 
+  /**
+   * Returns the value of a field as a {@code double} or the given default value if the field is not
+   * present or null. The field name is compared case-insensitively.
+   *
+   * <p>Values are converted the same way as by {@link #getDoubleField(String)}. Unlike that method,
+   * this method does not allocate any objects, which makes it suitable for reading many records in
+   * performance sensitive code.
+   *
+   * @param name The name of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @throws FieldConversionException If the value could not be converted into a {@code double}
+   *     value.
+   * @return The value of the field as a {@code double} or the default value if the field is not
+   *     present or null.
+   * @see #getDoubleField(String)
+   */
+  @SuppressWarnings("unused")
+  double getDoubleField(String name, double defaultValue);
+
   /**
    * Returns the value of a field as a {@link BigInteger} which may involve rounding. The field name
    * is compared case-insensitively.
@@ -357,6 +488,40 @@ public interface RecordAccessor {
   @SuppressWarnings("unused")
   Optional<ByteBuffer> getBinaryField(String name);
 
+  /**
+   * Returns the value of a binary field as an {@link InputStream}. The field name is compared
+   * case-insensitively.
+   *
+   * <p>Unlike {@link #getBinaryField(String)}, the value is read incrementally while the returned
+   * stream is read, without holding the whole value in memory. This allows processing large binary
+   * values, such as file contents, with constant memory usage. Each call returns a new stream that
+   * must be closed by the caller; reading the value does not change this accessor. Use {@link
+   * java.nio.channels.Channels#newChannel(InputStream)} if a {@link
+   * java.nio.channels.ReadableByteChannel} is required.
+   *
+   * <p>For records returned by the API, the value is not held in the record. Instead, it is fetched
+   * from the record's blob resource when the stream is opened, i.e. when this method is called.
+   * Errors returned by the API while opening the stream are thrown as {@link
+   * com.salesforce.functions.jvm.sdk.data.error.UncheckedDataApiException}. I/O errors that occur
+   * while reading are thrown as {@link java.io.IOException} by the stream's methods. For values set
+   * via {@link com.salesforce.functions.jvm.sdk.data.builder.RecordBuilder#withField(String,
+   * java.util.function.Supplier)}, the stream is obtained from the supplier.
+   *
+   * <p>Field values that are not binary data will not be converted to an {@link InputStream}. Using
+   * this method on a non-binary field will cause a {@link FieldConversionException} to be thrown.
+   *
+   * @param name The name of the field to obtain the value from.
+   * @throws FieldConversionException If the value is not binary data.
+   * @throws com.salesforce.functions.jvm.sdk.data.error.UncheckedDataApiException If the API
+   *     returned an error while fetching the value.
+   * @return The value of the binary field as an {@link InputStream} or empty {@link Optional} if
+   *     the field is not present or null.
+   * @see #getBinaryField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<InputStream> getBinaryFieldAsStream(String name);
+
   /**
    * Returns the value of a record field as a {@link Record}. The field name is compared
    * case-insensitively.
@@ -372,4 +537,266 @@ public interface RecordAccessor {
   @Nonnull
   @SuppressWarnings("unused")
   Optional<Record> getRecordField(String name);
+
+  /**
+   * Same as {@link #hasField(String)}, but uses a pre-resolved {@link FieldKey} instead of a field
+   * name.
+   *
+   * @param key The key of the field to check.
+   * @return If this record has a field with the given key.
+   * @see #hasField(String)
+   */
+  @SuppressWarnings("unused")
+  boolean hasField(FieldKey key);
+
+  /**
+   * Same as {@link #isNullField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field to check.
+   * @return If this record has a field with the given key that has {@code null} as its value.
+   * @see #isNullField(String)
+   */
+  @SuppressWarnings("unused")
+  boolean isNullField(FieldKey key);
+
+  /**
+   * Same as {@link #getStringField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getStringField(String)}.
+   * @see #getStringField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<String> getStringField(FieldKey key);
+
+  /**
+   * Same as {@link #getBooleanField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getBooleanField(String)}.
+   * @see #getBooleanField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<Boolean> getBooleanField(FieldKey key);
+
+  /**
+   * Same as {@link #getBooleanField(String, boolean)}, but uses a pre-resolved {@link FieldKey}
+   * instead of a field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @return The value of the field, as returned by {@link #getBooleanField(String, boolean)}.
+   * @see #getBooleanField(String, boolean)
+   */
+  @SuppressWarnings("unused")
+  boolean getBooleanField(FieldKey key, boolean defaultValue);
+
+  /**
+   * Same as {@link #getByteField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getByteField(String)}.
+   * @see #getByteField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<Byte> getByteField(FieldKey key);
+
+  /**
+   * Same as {@link #getByteField(String, byte)}, but uses a pre-resolved {@link FieldKey} instead
+   * of a field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @return The value of the field, as returned by {@link #getByteField(String, byte)}.
+   * @see #getByteField(String, byte)
+   */
+  @SuppressWarnings("unused")
+  byte getByteField(FieldKey key, byte defaultValue);
+
+  /**
+   * Same as {@link #getShortField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getShortField(String)}.
+   * @see #getShortField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<Short> getShortField(FieldKey key);
+
+  /**
+   * Same as {@link #getShortField(String, short)}, but uses a pre-resolved {@link FieldKey} instead
+   * of a field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @return The value of the field, as returned by {@link #getShortField(String, short)}.
+   * @see #getShortField(String, short)
+   */
+  @SuppressWarnings("unused")
+  short getShortField(FieldKey key, short defaultValue);
+
+  /**
+   * Same as {@link #getIntField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getIntField(String)}.
+   * @see #getIntField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<Integer> getIntField(FieldKey key);
+
+  /**
+   * Same as {@link #getIntField(String, int)}, but uses a pre-resolved {@link FieldKey} instead of
+   * a field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @return The value of the field, as returned by {@link #getIntField(String, int)}.
+   * @see #getIntField(String, int)
+   */
+  @SuppressWarnings("unused")
+  int getIntField(FieldKey key, int defaultValue);
+
+  /**
+   * Same as {@link #getLongField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getLongField(String)}.
+   * @see #getLongField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<Long> getLongField(FieldKey key);
+
+  /**
+   * Same as {@link #getLongField(String, long)}, but uses a pre-resolved {@link FieldKey} instead
+   * of a field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @return The value of the field, as returned by {@link #getLongField(String, long)}.
+   * @see #getLongField(String, long)
+   */
+  @SuppressWarnings("unused")
+  long getLongField(FieldKey key, long defaultValue);
+
+  /**
+   * Same as {@link #getFloatField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getFloatField(String)}.
+   * @see #getFloatField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<Float> getFloatField(FieldKey key);
+
+  /**
+   * Same as {@link #getFloatField(String, float)}, but uses a pre-resolved {@link FieldKey} instead
+   * of a field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @return The value of the field, as returned by {@link #getFloatField(String, float)}.
+   * @see #getFloatField(String, float)
+   */
+  @SuppressWarnings("unused")
+  float getFloatField(FieldKey key, float defaultValue);
+
+  /**
+   * Same as {@link #getDoubleField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getDoubleField(String)}.
+   * @see #getDoubleField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<Double> getDoubleField(FieldKey key);
+
+  /**
+   * Same as {@link #getDoubleField(String, double)}, but uses a pre-resolved {@link FieldKey}
+   * instead of a field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @param defaultValue The value to return if the field is not present or null.
+   * @return The value of the field, as returned by {@link #getDoubleField(String, double)}.
+   * @see #getDoubleField(String, double)
+   */
+  @SuppressWarnings("unused")
+  double getDoubleField(FieldKey key, double defaultValue);
+
+  /**
+   * Same as {@link #getBigIntegerField(String)}, but uses a pre-resolved {@link FieldKey} instead
+   * of a field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getBigIntegerField(String)}.
+   * @see #getBigIntegerField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<BigInteger> getBigIntegerField(FieldKey key);
+
+  /**
+   * Same as {@link #getBigDecimalField(String)}, but uses a pre-resolved {@link FieldKey} instead
+   * of a field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getBigDecimalField(String)}.
+   * @see #getBigDecimalField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<BigDecimal> getBigDecimalField(FieldKey key);
+
+  /**
+   * Same as {@link #getBinaryField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getBinaryField(String)}.
+   * @see #getBinaryField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<ByteBuffer> getBinaryField(FieldKey key);
+
+  /**
+   * Same as {@link #getBinaryFieldAsStream(String)}, but uses a pre-resolved {@link FieldKey}
+   * instead of a field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getBinaryFieldAsStream(String)}.
+   * @see #getBinaryFieldAsStream(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<InputStream> getBinaryFieldAsStream(FieldKey key);
+
+  /**
+   * Same as {@link #getRecordField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field to obtain the value from.
+   * @return The value of the field, as returned by {@link #getRecordField(String)}.
+   * @see #getRecordField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<Record> getRecordField(FieldKey key);
 }
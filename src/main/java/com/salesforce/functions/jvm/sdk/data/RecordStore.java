@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data;
+
+import com.salesforce.functions.jvm.sdk.data.codec.RecordCodecFormat;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+
+/**
+ * Stores records outside of the Java heap, in memory mapped files. Use it to process query results
+ * that contain more records than fit into the memory available to the function.
+ *
+ * <p>Records are stored in the {@link RecordCodecFormat#BINARY} format and are only decoded when
+ * they are accessed. {@link #forEach(Consumer)} passes the same reusable {@link RecordAccessor} for
+ * every record, which allows iterating over all records without allocating objects per record.
+ *
+ * <p>Stores must be closed after use to release their storage and delete their files. Stores are
+ * not thread-safe.
+ *
+ * @see DataApi#queryIntoRecordStore(String, java.nio.file.Path)
+ */
+public interface RecordStore extends AutoCloseable {
+  /**
+   * Returns the amount of records in this store.
+   *
+   * @return The amount of records in this store.
+   */
+  @SuppressWarnings("unused")
+  long size();
+
+  /**
+   * Performs the given action for each record in this store, in the order they were returned by the
+   * query.
+   *
+   * <p>The {@link RecordAccessor} passed to the action is a view of the current record that is
+   * reused for all records. It must not be used after the action returns. Use {@link #get(long)} to
+   * obtain a record that can be kept.
+   *
+   * @param action The action to perform for each record.
+   * @throws java.io.UncheckedIOException If an I/O error occurred while reading the records.
+   * @throws IllegalStateException If this store was closed.
+   */
+  @SuppressWarnings("unused")
+  void forEach(Consumer<? super RecordAccessor> action);
+
+  /**
+   * Returns the record at the given index, decoded into a new {@link RecordWithSubQueryResults}
+   * that is independent of this store.
+   *
+   * @param index The index of the record.
+   * @return The record at the given index.
+   * @throws IndexOutOfBoundsException If the index is out of range.
+   * @throws java.io.UncheckedIOException If an I/O error occurred while reading the record.
+   * @throws IllegalStateException If this store was closed.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordWithSubQueryResults get(long index);
+
+  /** Releases the storage of this store and deletes its files. */
+  @Override
+  void close();
+}
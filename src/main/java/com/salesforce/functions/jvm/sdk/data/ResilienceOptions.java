@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data;
+
+import com.salesforce.functions.jvm.sdk.data.builder.ResilienceOptionsBuilder;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Represents options for retries, hedged requests and circuit breaking of a {@link DataApi}.
+ * Instances can be created via {@link DataApi#newResilienceOptionsBuilder()}.
+ *
+ * <p>All implementations must be immutable and therefore thread-safe.
+ *
+ * @see DataApi#newResilienceOptionsBuilder()
+ * @see DataApi#withResilience(ResilienceOptions)
+ * @see ResilienceOptionsBuilder
+ */
+@Immutable
+public interface ResilienceOptions {}
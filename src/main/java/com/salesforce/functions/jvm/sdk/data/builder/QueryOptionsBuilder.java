@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.builder;
+
+import com.salesforce.functions.jvm.sdk.data.DataApi;
+import com.salesforce.functions.jvm.sdk.data.QueryOptions;
+import com.salesforce.functions.jvm.sdk.data.RecordQueryResult;
+import javax.annotation.Nonnull;
+
+/**
+ * Builder for {@link QueryOptions}.
+ *
+ * @see DataApi#newQueryOptionsBuilder()
+ */
+public interface QueryOptionsBuilder {
+
+  /**
+   * Sets the amount of records returned per batch, for the initial query and for all subsequent
+   * calls of {@link DataApi#queryMore(RecordQueryResult)}. The value is a hint, the API might
+   * return fewer records per batch, for example for queries that select many fields.
+   *
+   * <p>By default, the batch size of the API is used.
+   *
+   * @param batchSize The amount of records per batch, between 200 and 2000.
+   * @return This {@link QueryOptionsBuilder} instance to allow method chaining.
+   * @throws IllegalArgumentException If the batch size is not between 200 and 2000.
+   * @see <a
+   *     href="https://developer.salesforce.com/docs/atlas.en-us.api_rest.meta/api_rest/headers_queryoptions.htm">REST
+   *     API Developer Guide - Query Options Header</a>
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  QueryOptionsBuilder withBatchSize(int batchSize);
+
+  /**
+   * Enables adaptive batch sizes. The batch size for each call of {@link
+   * DataApi#queryMore(RecordQueryResult)} is chosen between the given bounds, based on the time it
+   * took to process the records of the previous batch and the amount of free heap memory. Functions
+   * that process records quickly receive larger batches, reducing the amount of requests, while
+   * functions that are low on memory receive smaller batches.
+   *
+   * <p>Overrides a batch size set with {@link #withBatchSize(int)}.
+   *
+   * <p>The chosen batch sizes are reported to {@link
+   * com.salesforce.functions.jvm.sdk.metrics.DataApiMetricsRecorder#recordAdaptiveBatchSize}.
+   *
+   * @param minBatchSize The minimum amount of records per batch, at least 200.
+   * @param maxBatchSize The maximum amount of records per batch, at most 2000.
+   * @return This {@link QueryOptionsBuilder} instance to allow method chaining.
+   * @throws IllegalArgumentException If the bounds are out of range or minBatchSize is greater than
+   *     maxBatchSize.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  QueryOptionsBuilder withAdaptiveBatchSize(int minBatchSize, int maxBatchSize);
+
+  /**
+   * Sets if the query should include records that have been deleted or archived. Disabled by
+   * default.
+   *
+   * @param includeDeletedAndArchived If deleted and archived records should be included.
+   * @return This {@link QueryOptionsBuilder} instance to allow method chaining.
+   * @see <a
+   *     href="https://developer.salesforce.com/docs/atlas.en-us.api_rest.meta/api_rest/resources_queryall.htm">REST
+   *     API Developer Guide - QueryAll</a>
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  QueryOptionsBuilder withAllRows(boolean includeDeletedAndArchived);
+
+  /**
+   * Returns a new and immutable {@link QueryOptions} instance based on the information stored in
+   * this builder.
+   *
+   * @return The new {@link QueryOptions} instance.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  QueryOptions build();
+}
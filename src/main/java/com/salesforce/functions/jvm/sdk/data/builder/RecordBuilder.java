@@ -7,12 +7,15 @@
 package com.salesforce.functions.jvm.sdk.data.builder;
 
 import com.salesforce.functions.jvm.sdk.data.DataApi;
+import com.salesforce.functions.jvm.sdk.data.FieldKey;
 import com.salesforce.functions.jvm.sdk.data.Record;
 import com.salesforce.functions.jvm.sdk.data.RecordAccessor;
 import com.salesforce.functions.jvm.sdk.data.ReferenceId;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -27,6 +30,11 @@ public interface RecordBuilder extends RecordAccessor {
    * Returns a new and immutable {@link Record} instance based on the information stored in this
    * builder.
    *
+   * <p>The returned {@link Record} shares unchanged fields with the {@link Record} this builder was
+   * created from, if any (see {@link DataApi#newRecordBuilder(Record)}). The cost of this method is
+   * therefore proportional to the amount of fields changed on this builder, not the total amount of
+   * fields.
+   *
    * @return The new {@link Record} instance.
    */
   @Nonnull
@@ -187,4 +195,221 @@ public interface RecordBuilder extends RecordAccessor {
   @Nonnull
   @SuppressWarnings("unused")
   RecordBuilder withField(String name, @Nullable ByteBuffer value);
+
+  /**
+   * Sets the value of a binary field to the contents of the {@link InputStream}s returned by the
+   * given {@link Supplier}.
+   *
+   * <p>The supplier is not called by this method, and the {@link Record} only holds the supplier,
+   * not a stream, so it stays immutable and can be used any number of times. Every use of the
+   * value, such as sending the record to the API, encoding it with a {@link
+   * com.salesforce.functions.jvm.sdk.data.codec.RecordCodec} or reading it via {@link
+   * RecordAccessor}, obtains a new stream from the supplier, reads it incrementally without holding
+   * the whole value in memory and closes it afterwards. The supplier must therefore return a new
+   * stream with the same contents on every call.
+   *
+   * <p>If the stream cannot be read while the record is sent to the API, the operation fails with a
+   * {@link com.salesforce.functions.jvm.sdk.data.error.DataApiException} whose cause is the {@link
+   * java.io.IOException} thrown by the stream.
+   *
+   * @param name The name of the field.
+   * @param value The supplier of the streams to read the value from.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(String name, @Nullable Supplier<InputStream> value);
+
+  /**
+   * Same as {@link #withoutField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withoutField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withoutField(FieldKey key);
+
+  /**
+   * Same as {@link #withNullField(String)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withNullField(String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withNullField(FieldKey key);
+
+  /**
+   * Same as {@link #withField(String, String)}, but uses a pre-resolved {@link FieldKey} instead of
+   * a field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, String)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, @Nullable String value);
+
+  /**
+   * Same as {@link #withField(String, short)}, but uses a pre-resolved {@link FieldKey} instead of
+   * a field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, short)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, short value);
+
+  /**
+   * Same as {@link #withField(String, long)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, long)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, long value);
+
+  /**
+   * Same as {@link #withField(String, int)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, int)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, int value);
+
+  /**
+   * Same as {@link #withField(String, float)}, but uses a pre-resolved {@link FieldKey} instead of
+   * a field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, float)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, float value);
+
+  /**
+   * Same as {@link #withField(String, double)}, but uses a pre-resolved {@link FieldKey} instead of
+   * a field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, double)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, double value);
+
+  /**
+   * Same as {@link #withField(String, byte)}, but uses a pre-resolved {@link FieldKey} instead of a
+   * field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, byte)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, byte value);
+
+  /**
+   * Same as {@link #withField(String, boolean)}, but uses a pre-resolved {@link FieldKey} instead
+   * of a field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, boolean)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, boolean value);
+
+  /**
+   * Same as {@link #withField(String, BigInteger)}, but uses a pre-resolved {@link FieldKey}
+   * instead of a field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, BigInteger)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, @Nullable BigInteger value);
+
+  /**
+   * Same as {@link #withField(String, BigDecimal)}, but uses a pre-resolved {@link FieldKey}
+   * instead of a field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, BigDecimal)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, @Nullable BigDecimal value);
+
+  /**
+   * Same as {@link #withField(String, ReferenceId)}, but uses a pre-resolved {@link FieldKey}
+   * instead of a field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, ReferenceId)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, @Nullable ReferenceId value);
+
+  /**
+   * Same as {@link #withField(String, ByteBuffer)}, but uses a pre-resolved {@link FieldKey}
+   * instead of a field name.
+   *
+   * @param key The key of the field.
+   * @param value The value to set.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, ByteBuffer)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, @Nullable ByteBuffer value);
+
+  /**
+   * Same as {@link #withField(String, Supplier)}, but uses a pre-resolved {@link FieldKey} instead
+   * of a field name.
+   *
+   * @param key The key of the field.
+   * @param value The supplier of the streams to read the value from.
+   * @return This {@link RecordBuilder} instance to allow method chaining.
+   * @see #withField(String, Supplier)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordBuilder withField(FieldKey key, @Nullable Supplier<InputStream> value);
 }
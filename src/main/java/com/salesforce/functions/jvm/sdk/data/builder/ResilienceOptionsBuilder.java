@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.builder;
+
+import com.salesforce.functions.jvm.sdk.Org;
+import com.salesforce.functions.jvm.sdk.data.DataApi;
+import com.salesforce.functions.jvm.sdk.data.RecordQueryResult;
+import com.salesforce.functions.jvm.sdk.data.ResilienceOptions;
+import com.salesforce.functions.jvm.sdk.data.error.DataApiError;
+import com.salesforce.functions.jvm.sdk.data.error.DataApiException;
+import java.time.Duration;
+import java.util.Set;
+import javax.annotation.Nonnull;
+
+/**
+ * Builder for {@link ResilienceOptions}.
+ *
+ * <p>Retries and hedged requests only apply to idempotent operations: {@link DataApi#query(String)}
+ * and {@link DataApi#queryMore(RecordQueryResult)}, including the queries made by other query
+ * methods of {@link DataApi}. The circuit breaker applies to all operations.
+ *
+ * @see DataApi#newResilienceOptionsBuilder()
+ */
+public interface ResilienceOptionsBuilder {
+
+  /**
+   * Sets the maximum amount of attempts for a single operation, including the first attempt. Set to
+   * 1 to disable retries. Defaults to 3.
+   *
+   * @param maxAttempts The maximum amount of attempts, at least 1.
+   * @return This {@link ResilienceOptionsBuilder} instance to allow method chaining.
+   * @throws IllegalArgumentException If maxAttempts is less than 1.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  ResilienceOptionsBuilder withMaxAttempts(int maxAttempts);
+
+  /**
+   * Sets the delay between attempts. The delay starts with the given initial delay and doubles with
+   * every attempt, up to the given maximum delay. A random jitter between zero and the computed
+   * delay is used as actual delay, spreading retries of concurrent invocations over time. Defaults
+   * to an initial delay of 100 milliseconds and a maximum delay of 5 seconds.
+   *
+   * @param initialDelay The delay before the first retry.
+   * @param maxDelay The maximum delay between attempts.
+   * @return This {@link ResilienceOptionsBuilder} instance to allow method chaining.
+   * @throws IllegalArgumentException If a delay is negative or initialDelay is greater than
+   *     maxDelay.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  ResilienceOptionsBuilder withBackoff(Duration initialDelay, Duration maxDelay);
+
+  /**
+   * Sets the error codes that cause an operation to be retried. An attempt is retried if any of its
+   * errors has one of the given codes (see {@link DataApiError#getErrorCode()}), or if the API
+   * responded with an HTTP 5xx status code without error details. Defaults to {@code
+   * REQUEST_LIMIT_EXCEEDED} and {@code SERVER_UNAVAILABLE}.
+   *
+   * <p>Requests rejected by the rate limiter of the org without being sent (see {@link DataApi})
+   * are never retried and do not count towards the failure threshold of the circuit breaker, even
+   * though their error code is {@code REQUEST_LIMIT_EXCEEDED}.
+   *
+   * @param errorCodes The error codes that cause an operation to be retried.
+   * @return This {@link ResilienceOptionsBuilder} instance to allow method chaining.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  ResilienceOptionsBuilder withRetryableErrorCodes(Set<String> errorCodes);
+
+  /**
+   * Enables hedged requests. If an attempt takes longer than the given percentile of the latencies
+   * recently observed for the same operation, a second identical request is sent. The response that
+   * arrives first is used and the other request is cancelled. Disabled by default.
+   *
+   * <p>Hedged requests reduce tail latencies at the cost of additional API requests.
+   *
+   * @param latencyPercentile The latency percentile after which a hedged request is sent, for
+   *     example 0.95.
+   * @return This {@link ResilienceOptionsBuilder} instance to allow method chaining.
+   * @throws IllegalArgumentException If latencyPercentile is not between 0 (exclusive) and 1
+   *     (exclusive).
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  ResilienceOptionsBuilder withHedging(double latencyPercentile);
+
+  /**
+   * Enables a circuit breaker. After the given amount of consecutive transient failures, the
+   * circuit opens and all operations fail immediately without sending a request. After the given
+   * duration, a single operation is let through to probe the API. The circuit closes again if that
+   * operation succeeds. Disabled by default.
+   *
+   * <p>Only transient failures count towards the failure threshold: errors with one of the
+   * retryable error codes (see {@link #withRetryableErrorCodes(Set)}), HTTP 5xx responses and I/O
+   * errors. Successful operations reset the count. Other failures, such as validation errors or
+   * malformed queries, neither count towards the threshold nor reset it.
+   *
+   * <p>Circuit breakers are shared by all {@link DataApi} instances for the same {@link
+   * Org#getDomainUrl()} that were configured with the same failure threshold and open duration.
+   * Instances configured with different values use separate circuit breakers, so each instance's
+   * configuration always applies to the circuit breaker it uses.
+   *
+   * <p>Operations rejected by an open circuit fail with a {@link DataApiException} containing a
+   * single {@link DataApiError} whose {@link DataApiError#getErrorCode()} is {@link
+   * DataApiError#CIRCUIT_BREAKER_OPEN_ERROR_CODE}. Rejected operations are not retried.
+   *
+   * <p>State changes are reported to {@link
+   * com.salesforce.functions.jvm.sdk.metrics.DataApiMetricsRecorder}s.
+   *
+   * @param failureThreshold The amount of consecutive failed operations that open the circuit.
+   * @param openDuration The amount of time the circuit stays open before probing the API.
+   * @return This {@link ResilienceOptionsBuilder} instance to allow method chaining.
+   * @throws IllegalArgumentException If failureThreshold is less than 1 or openDuration is
+   *     negative.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  ResilienceOptionsBuilder withCircuitBreaker(int failureThreshold, Duration openDuration);
+
+  /**
+   * Returns a new and immutable {@link ResilienceOptions} instance based on the information stored
+   * in this builder.
+   *
+   * @return The new {@link ResilienceOptions} instance.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  ResilienceOptions build();
+}
@@ -37,6 +37,9 @@ public interface UnitOfWorkBuilder {
    * Registers a record update for the {@link UnitOfWork} and returns a {@link ReferenceId} that can
    * be used to refer to the updated record in subsequent operations in this UnitOfWork.
    *
+   * <p>Only the Id field and the fields returned by {@link Record#getModifiedFieldNames()} are sent
+   * to the API.
+   *
    * @param record The record to update.
    * @throws IllegalArgumentException If the {@link Record} instance wasn't created by a {@link
    *     RecordBuilder} obtained from same {@link DataApi} instance this UnitOfWorkBuilder was
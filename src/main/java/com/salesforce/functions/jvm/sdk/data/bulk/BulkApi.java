@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.bulk;
+
+import com.salesforce.functions.jvm.sdk.data.DataApi;
+import com.salesforce.functions.jvm.sdk.data.Record;
+import com.salesforce.functions.jvm.sdk.data.builder.RecordBuilder;
+import com.salesforce.functions.jvm.sdk.data.error.DataApiException;
+import javax.annotation.Nonnull;
+
+/**
+ * Bulk API client to process large amounts of records asynchronously. Use this client for
+ * operations that involve hundreds of thousands of records, where {@link DataApi} would require too
+ * many requests.
+ *
+ * @see DataApi#getBulkApi()
+ * @see <a
+ *     href="https://developer.salesforce.com/docs/atlas.en-us.api_asynch.meta/api_asynch/bulk_api_2_0.htm">Bulk
+ *     API 2.0 Developer Guide</a>
+ */
+public interface BulkApi {
+
+  /**
+   * Creates an ingest job that performs the given operation for all given records.
+   *
+   * <p>The records are read lazily from the given {@link Iterable} and uploaded as CSV while
+   * reading, without holding all of them in memory. All records must be of the given type. Fields
+   * that are not present in a record are left unchanged.
+   *
+   * <p>For {@link BulkIngestOperation#UPDATE}, the same rule as for {@link DataApi#update(Record)}
+   * applies: only the Id field and the fields returned by {@link Record#getModifiedFieldNames()}
+   * are sent. Cells of fields that are not modified in a record are left empty, which leaves these
+   * fields unchanged, and modified fields set to {@code null} are cleared. For {@link
+   * BulkIngestOperation#INSERT}, all fields present in the records are sent. For {@link
+   * BulkIngestOperation#DELETE} and {@link BulkIngestOperation#HARD_DELETE}, only the Id field of
+   * the records is used.
+   *
+   * <p>This method returns once all records have been uploaded. The job is then processed
+   * asynchronously, use {@link BulkJob#awaitCompletion(java.time.Duration)} to wait for it to
+   * complete.
+   *
+   * @param operation The operation to perform.
+   * @param type The object type of the records.
+   * @param records The records to process.
+   * @return The created {@link BulkIngestJob}.
+   * @throws DataApiException If an API error occurred while creating the job or uploading records.
+   * @throws IllegalArgumentException If any {@link Record} instance wasn't created by a {@link
+   *     RecordBuilder} obtained from the {@link DataApi} this BulkApi was obtained from.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  BulkIngestJob ingest(BulkIngestOperation operation, String type, Iterable<Record> records)
+      throws DataApiException;
+
+  /**
+   * Creates an ingest job that upserts all given records, using the given external id field to
+   * match existing records.
+   *
+   * <p>Since upserted records may not exist yet, all fields present in the records are sent,
+   * regardless of {@link Record#getModifiedFieldNames()}.
+   *
+   * @param type The object type of the records.
+   * @param externalIdFieldName The name of the external id field.
+   * @param records The records to upsert.
+   * @return The created {@link BulkIngestJob}.
+   * @throws DataApiException If an API error occurred while creating the job or uploading records.
+   * @throws IllegalArgumentException If any {@link Record} instance wasn't created by a {@link
+   *     RecordBuilder} obtained from the {@link DataApi} this BulkApi was obtained from.
+   * @see #ingest(BulkIngestOperation, String, Iterable)
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  BulkIngestJob upsert(String type, String externalIdFieldName, Iterable<Record> records)
+      throws DataApiException;
+
+  /**
+   * Creates a query job for the given SOQL string.
+   *
+   * <p>The job is processed asynchronously, use {@link BulkJob#awaitCompletion(java.time.Duration)}
+   * to wait for it to complete before reading its results.
+   *
+   * @param soql The SOQL string.
+   * @return The created {@link BulkQueryJob}.
+   * @throws DataApiException If an API error occurred while creating the job.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  BulkQueryJob query(String soql) throws DataApiException;
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.bulk;
+
+import com.salesforce.functions.jvm.sdk.data.Record;
+import com.salesforce.functions.jvm.sdk.data.error.DataApiError;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Represents a record that could not be processed by a {@link BulkIngestJob}.
+ *
+ * <p>All implementations must be immutable and therefore thread-safe.
+ *
+ * @see BulkIngestJob#getFailedRecords()
+ */
+@Immutable
+public interface BulkFailedRecord {
+  /**
+   * Returns the record that could not be processed, as it was uploaded.
+   *
+   * @return The record that could not be processed.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Record getRecord();
+
+  /**
+   * Returns the errors that occurred while processing the record.
+   *
+   * @return The errors that occurred while processing the record.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  List<DataApiError> getErrors();
+}
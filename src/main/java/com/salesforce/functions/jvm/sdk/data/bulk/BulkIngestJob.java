@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.bulk;
+
+import com.salesforce.functions.jvm.sdk.data.Record;
+import com.salesforce.functions.jvm.sdk.data.error.DataApiException;
+import com.salesforce.functions.jvm.sdk.data.error.UncheckedDataApiException;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+/**
+ * Represents a Bulk API job that creates, updates or deletes records.
+ *
+ * <p>Results are streamed from the API while the returned {@link Stream}s are consumed, without
+ * holding all of them in memory. Errors that occur while streaming are thrown from the stream's
+ * terminal operation as {@link UncheckedDataApiException}. Streams should be closed after use.
+ *
+ * @see BulkApi#ingest(BulkIngestOperation, String, Iterable)
+ */
+public interface BulkIngestJob extends BulkJob {
+  /**
+   * Returns the records that were processed successfully. Each record contains the fields that were
+   * uploaded, with the Id field set to the id of the created or modified record.
+   *
+   * @return The records that were processed successfully.
+   * @throws DataApiException If an API error occurred while retrieving the results.
+   * @throws IllegalStateException If the job did not complete yet.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Stream<Record> getSuccessfulRecords() throws DataApiException;
+
+  /**
+   * Returns the records that could not be processed, together with the errors that occurred.
+   *
+   * @return The records that could not be processed.
+   * @throws DataApiException If an API error occurred while retrieving the results.
+   * @throws IllegalStateException If the job did not complete yet.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Stream<BulkFailedRecord> getFailedRecords() throws DataApiException;
+}
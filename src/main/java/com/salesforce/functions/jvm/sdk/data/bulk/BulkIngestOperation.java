@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.bulk;
+
+/**
+ * The operations that can be performed by a {@link BulkIngestJob}.
+ *
+ * @see BulkApi#ingest(BulkIngestOperation, String, Iterable)
+ */
+public enum BulkIngestOperation {
+  /** Creates new records. */
+  INSERT,
+  /** Updates existing records, identified by their Id field. */
+  UPDATE,
+  /** Moves existing records, identified by their Id field, to the Recycle Bin. */
+  DELETE,
+  /** Permanently deletes existing records, identified by their Id field. */
+  HARD_DELETE
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.bulk;
+
+import com.salesforce.functions.jvm.sdk.data.error.DataApiException;
+import java.time.Duration;
+import javax.annotation.Nonnull;
+
+/**
+ * Represents a job of the Bulk API that is processed asynchronously.
+ *
+ * @see BulkIngestJob
+ * @see BulkQueryJob
+ */
+public interface BulkJob {
+  /**
+   * Returns the id of this job.
+   *
+   * @return The id of this job.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  String getId();
+
+  /**
+   * Retrieves the current processing state of this job from the API.
+   *
+   * @return The current processing state of this job.
+   * @throws DataApiException If an API error occurred while retrieving the state.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  BulkJobState getState() throws DataApiException;
+
+  /**
+   * Waits for this job to reach a final state. The state is polled with an exponentially increasing
+   * delay between requests, limiting the amount of API requests for long running jobs.
+   *
+   * @param timeout The maximum amount of time to wait.
+   * @return The final state of this job or the last retrieved state if the timeout elapsed.
+   * @throws DataApiException If an API error occurred while retrieving the state.
+   * @throws InterruptedException If the current thread was interrupted while waiting.
+   * @see BulkJobState#isFinal()
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  BulkJobState awaitCompletion(Duration timeout) throws DataApiException, InterruptedException;
+
+  /**
+   * Aborts this job. Has no effect if the job already reached a final state.
+   *
+   * @throws DataApiException If an API error occurred while aborting the job.
+   */
+  @SuppressWarnings("unused")
+  void abort() throws DataApiException;
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.bulk;
+
+/**
+ * The processing state of a {@link BulkJob}.
+ *
+ * @see BulkJob#getState()
+ */
+public enum BulkJobState {
+  /** The job was created and data is being uploaded. */
+  OPEN,
+  /** All data has been uploaded and the job is queued for processing. */
+  UPLOAD_COMPLETE,
+  /** The job is being processed. */
+  IN_PROGRESS,
+  /** The job was processed. Individual records might still have failed. */
+  JOB_COMPLETE,
+  /** The job could not be processed. */
+  FAILED,
+  /** The job was aborted. */
+  ABORTED;
+
+  /**
+   * Returns if this state is final, meaning the job will not be processed any further.
+   *
+   * @return If this state is final.
+   */
+  @SuppressWarnings("unused")
+  public boolean isFinal() {
+    return this == JOB_COMPLETE || this == FAILED || this == ABORTED;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.bulk;
+
+import com.salesforce.functions.jvm.sdk.data.Record;
+import com.salesforce.functions.jvm.sdk.data.error.DataApiException;
+import com.salesforce.functions.jvm.sdk.data.error.UncheckedDataApiException;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+/**
+ * Represents a Bulk API job that queries records.
+ *
+ * @see BulkApi#query(String)
+ */
+public interface BulkQueryJob extends BulkJob {
+  /**
+   * Returns the records returned by the query.
+   *
+   * <p>Results are streamed from the API while the returned {@link Stream} is consumed, without
+   * holding all of them in memory. Errors that occur while streaming are thrown from the stream's
+   * terminal operation as {@link UncheckedDataApiException}. The stream should be closed after use.
+   *
+   * @return The records returned by the query.
+   * @throws DataApiException If an API error occurred while retrieving the results.
+   * @throws IllegalStateException If the job did not complete yet.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Stream<Record> getResults() throws DataApiException;
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+/**
+ * This module contains the interfaces that support processing large amounts of records with the
+ * Salesforce Bulk API 2.0.
+ */
+@ParametersAreNonnullByDefault
+package com.salesforce.functions.jvm.sdk.data.bulk;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.codec;
+
+import com.salesforce.functions.jvm.sdk.data.DataApi;
+import com.salesforce.functions.jvm.sdk.data.RecordAccessor;
+import com.salesforce.functions.jvm.sdk.data.RecordQueryResult;
+import com.salesforce.functions.jvm.sdk.data.RecordWithSubQueryResults;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import javax.annotation.Nonnull;
+
+/**
+ * Serializes and deserializes records and query results in a {@link RecordCodecFormat}.
+ *
+ * <p>Values are written directly from the fields of a record to the output, and records are read
+ * directly from the input, without building intermediate object trees. Implementations reuse their
+ * internal buffers between calls and must be thread-safe.
+ *
+ * <p>Records and query results read by a codec are associated with the {@link DataApi} the codec
+ * was obtained from and can be used with it like records and query results returned by that {@link
+ * DataApi}.
+ *
+ * <p>Unlike records returned by a query, records read by a codec do not necessarily have an empty
+ * set of modified fields (see {@link
+ * com.salesforce.functions.jvm.sdk.data.Record#getModifiedFieldNames()}). {@link
+ * RecordCodecFormat#BINARY} preserves the modified fields of written records, so a record read back
+ * reports the same modified fields as the record that was written. {@link RecordCodecFormat#JSON}
+ * cannot represent them; records read from JSON report all of their fields as modified, so that
+ * {@link DataApi#update(com.salesforce.functions.jvm.sdk.data.Record)} sends all of them instead of
+ * silently dropping changes.
+ *
+ * @see DataApi#getRecordCodec()
+ * @see DataApi#getRecordCodec(RecordCodecFormat)
+ */
+public interface RecordCodec {
+  /**
+   * Returns the format this codec reads and writes.
+   *
+   * @return The format of this codec.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordCodecFormat getFormat();
+
+  /**
+   * Writes a record to the given {@link OutputStream}. The stream is not closed by this method.
+   *
+   * @param record The record to write.
+   * @param outputStream The stream to write to.
+   * @throws IOException If an I/O error occurred while writing.
+   */
+  @SuppressWarnings("unused")
+  void write(RecordAccessor record, OutputStream outputStream) throws IOException;
+
+  /**
+   * Writes a query result, including all of its records and their sub query results, to the given
+   * {@link OutputStream}. The stream is not closed by this method.
+   *
+   * @param queryResult The query result to write.
+   * @param outputStream The stream to write to.
+   * @throws IOException If an I/O error occurred while writing.
+   */
+  @SuppressWarnings("unused")
+  void write(RecordQueryResult queryResult, OutputStream outputStream) throws IOException;
+
+  /**
+   * Reads a record from the given {@link InputStream}. The stream is not closed by this method.
+   *
+   * @param inputStream The stream to read from.
+   * @return The record read from the stream.
+   * @throws IOException If an I/O error occurred while reading, the data is malformed or, for
+   *     {@link RecordCodecFormat#BINARY}, the header is missing or has an unsupported format
+   *     version.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordWithSubQueryResults readRecord(InputStream inputStream) throws IOException;
+
+  /**
+   * Reads a query result from the given {@link InputStream}. The stream is not closed by this
+   * method.
+   *
+   * @param inputStream The stream to read from.
+   * @return The query result read from the stream.
+   * @throws IOException If an I/O error occurred while reading, the data is malformed or, for
+   *     {@link RecordCodecFormat#BINARY}, the header is missing or has an unsupported format
+   *     version.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordQueryResult readQueryResult(InputStream inputStream) throws IOException;
+
+  /**
+   * Reads a query result from the given {@link ByteBuffer}, starting at its current position.
+   *
+   * <p>For {@link RecordCodecFormat#BINARY}, records are not decoded up front. Instead, the
+   * returned query result reads its records from the buffer when they are accessed. This allows
+   * reopening large query results from a memory mapped file (see {@link
+   * java.nio.channels.FileChannel#map(java.nio.channels.FileChannel.MapMode, long, long)}) without
+   * holding all of their records on the heap. The buffer must not be modified while the query
+   * result is in use.
+   *
+   * @param buffer The buffer to read from.
+   * @return The query result read from the buffer.
+   * @throws IOException If the data is malformed or, for {@link RecordCodecFormat#BINARY}, the
+   *     header is missing or has an unsupported format version.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  RecordQueryResult readQueryResult(ByteBuffer buffer) throws IOException;
+}
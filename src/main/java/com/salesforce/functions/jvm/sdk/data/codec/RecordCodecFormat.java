@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.codec;
+
+/**
+ * The serialization formats supported by {@link RecordCodec}.
+ *
+ * @see com.salesforce.functions.jvm.sdk.data.DataApi#getRecordCodec(RecordCodecFormat)
+ */
+public enum RecordCodecFormat {
+  /** The JSON format of the Salesforce REST API. */
+  JSON,
+
+  /**
+   * A compact binary format that preserves the types of all field values. Field names are
+   * dictionary-encoded and binary field values are stored without additional encoding. The modified
+   * fields of each record (see {@link
+   * com.salesforce.functions.jvm.sdk.data.Record#getModifiedFieldNames()}) are stored along with
+   * its values.
+   *
+   * <p>Integral values are encoded as zigzag variable-length integers. Float and double values are
+   * stored as fixed-width IEEE 754 values. {@link java.math.BigInteger} values are stored as their
+   * length-prefixed two's-complement bytes. {@link java.math.BigDecimal} values are stored as their
+   * scale, encoded as a zigzag variable-length integer, followed by their unscaled value, encoded
+   * like a {@link java.math.BigInteger}. Strings are stored as length-prefixed UTF-8 bytes. All
+   * lengths are encoded as variable-length integers.
+   *
+   * <p>Query results in this format can be read from a memory mapped {@link java.nio.ByteBuffer}
+   * without decoding all records up front (see {@link
+   * RecordCodec#readQueryResult(java.nio.ByteBuffer)}).
+   *
+   * <p>Every record and query result written in this format starts with a header consisting of the
+   * four magic bytes {@code 0x53 0x46 0x52 0x43} ({@code "SFRC"} in ASCII), followed by the format
+   * version as a two-byte big-endian unsigned integer. The current format version is 1. The version
+   * is incremented with every incompatible change of the format and is independent of the SDK
+   * version.
+   *
+   * <p>This format is intended for exchanging data between functions and for persisting data
+   * temporarily, for example as checkpoints. Readers must reject data with a missing magic number
+   * or a format version they do not support by throwing an {@link java.io.IOException} instead of
+   * reading it. Data written by one version of a runtime can therefore be read by another version
+   * if both support its format version, and is never misread otherwise.
+   */
+  BINARY
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+/**
+ * This module contains the interfaces to serialize and deserialize records and query results, for
+ * example to pass them between functions or to persist them.
+ */
+@ParametersAreNonnullByDefault
+package com.salesforce.functions.jvm.sdk.data.codec;
+
+import javax.annotation.ParametersAreNonnullByDefault;
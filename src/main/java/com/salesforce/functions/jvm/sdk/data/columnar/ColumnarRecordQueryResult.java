@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.columnar;
+
+import com.salesforce.functions.jvm.sdk.data.DataApi;
+import com.salesforce.functions.jvm.sdk.data.RecordQueryResult;
+import com.salesforce.functions.jvm.sdk.data.error.FieldConversionException;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Represents the result of a record query in a column-oriented layout. Instead of one record object
+ * per row, the values of each field are stored in a single column. Numeric columns store their
+ * values as primitives, which allows aggregating or filtering large query results without
+ * allocating objects per row.
+ *
+ * <p>Only top-level fields of the queried records are available as columns. Use {@link
+ * DataApi#query(String)} for queries with relationship fields or sub queries.
+ *
+ * <p>All implementations must be immutable and therefore thread-safe.
+ *
+ * @see DataApi#queryColumnar(String)
+ * @see DataApi#queryMore(ColumnarRecordQueryResult)
+ * @see RecordQueryResult
+ */
+@Immutable
+public interface ColumnarRecordQueryResult {
+  /**
+   * If true, no additional records can be retrieved from the query result. If false, one or more
+   * records remain to be retrieved. Use {@link DataApi#queryMore(ColumnarRecordQueryResult)} to
+   * receive the next batch of records from this query result.
+   *
+   * @return If there are no more rows to be retrieved.
+   */
+  @SuppressWarnings("unused")
+  boolean isDone();
+
+  /**
+   * Returns the total amount of records returned by the query. This is not necessarily the same
+   * amount of records as returned by {@link #getRowCount()}.
+   *
+   * @return The total amount of records returned by the query.
+   * @see #isDone()
+   */
+  @SuppressWarnings("unused")
+  long getTotalSize();
+
+  /**
+   * Returns the amount of rows in this query result.
+   *
+   * @return The amount of rows in this query result.
+   */
+  @SuppressWarnings("unused")
+  int getRowCount();
+
+  /**
+   * Returns the names of all columns in this query result.
+   *
+   * @return The names of all columns in this query result.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Set<String> getColumnNames();
+
+  /**
+   * Returns the values of a field as an {@link IntColumn}. The field name is compared
+   * case-insensitively.
+   *
+   * @param name The name of the field to obtain the values from.
+   * @throws FieldConversionException If any value could not be converted into an int value.
+   * @return The values of the field as an {@link IntColumn} or empty {@link Optional} if the field
+   *     is not present.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<IntColumn> getIntColumn(String name);
+
+  /**
+   * Returns the values of a field as a {@link LongColumn}. The field name is compared
+   * case-insensitively.
+   *
+   * @param name The name of the field to obtain the values from.
+   * @throws FieldConversionException If any value could not be converted into a long value.
+   * @return The values of the field as a {@link LongColumn} or empty {@link Optional} if the field
+   *     is not present.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<LongColumn> getLongColumn(String name);
+
+  /**
+   * Returns the values of a field as a {@link DoubleColumn}. The field name is compared
+   * case-insensitively.
+   *
+   * @param name The name of the field to obtain the values from.
+   * @throws FieldConversionException If any value could not be converted into a double value.
+   * @return The values of the field as a {@link DoubleColumn} or empty {@link Optional} if the
+   *     field is not present.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<DoubleColumn> getDoubleColumn(String name);
+}
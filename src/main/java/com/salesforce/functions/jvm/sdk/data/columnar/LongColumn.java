@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.columnar;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A column of a {@link ColumnarRecordQueryResult} with values stored as {@code long}s.
+ *
+ * <p>Values are converted the same way as by {@link
+ * com.salesforce.functions.jvm.sdk.data.RecordAccessor#getLongField(String)}. Null values are
+ * tracked separately from the values themselves. Reading a value does not allocate any objects.
+ *
+ * <p>All implementations must be immutable and therefore thread-safe.
+ *
+ * @see ColumnarRecordQueryResult#getLongColumn(String)
+ */
+@Immutable
+public interface LongColumn {
+  /**
+   * Returns the name of the field this column contains the values of.
+   *
+   * @return The name of the field.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  String getName();
+
+  /**
+   * Returns the amount of values in this column. This is the same amount as {@link
+   * ColumnarRecordQueryResult#getRowCount()}.
+   *
+   * @return The amount of values in this column.
+   */
+  @SuppressWarnings("unused")
+  int size();
+
+  /**
+   * Returns if the value of the given row is {@code null}.
+   *
+   * @param row The index of the row.
+   * @return If the value of the given row is {@code null}.
+   * @throws IndexOutOfBoundsException If the row index is out of range.
+   */
+  @SuppressWarnings("unused")
+  boolean isNull(int row);
+
+  /**
+   * Returns the value of the given row. Returns {@code 0} if the value is {@code null}, use {@link
+   * #isNull(int)} to distinguish {@code null} values from actual values.
+   *
+   * @param row The index of the row.
+   * @return The value of the given row.
+   * @throws IndexOutOfBoundsException If the row index is out of range.
+   */
+  @SuppressWarnings("unused")
+  long get(int row);
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+/**
+ * This module contains the interfaces for column-oriented access to query results. Column values
+ * are stored as primitives, allowing to process large query results without allocating objects per
+ * row.
+ */
+@ParametersAreNonnullByDefault
+package com.salesforce.functions.jvm.sdk.data.columnar;
+
+import javax.annotation.ParametersAreNonnullByDefault;
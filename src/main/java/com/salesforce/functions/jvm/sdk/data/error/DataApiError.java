@@ -6,7 +6,9 @@
  */
 package com.salesforce.functions.jvm.sdk.data.error;
 
+import com.salesforce.functions.jvm.sdk.data.ReferenceId;
 import java.util.List;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
 
@@ -21,6 +23,32 @@ import javax.annotation.concurrent.Immutable;
  */
 @Immutable
 public interface DataApiError {
+  /**
+   * The error code of errors caused by an open circuit breaker that rejected an operation without
+   * sending a request to the API.
+   *
+   * @see com.salesforce.functions.jvm.sdk.data.builder.ResilienceOptionsBuilder#withCircuitBreaker
+   */
+  String CIRCUIT_BREAKER_OPEN_ERROR_CODE = "CIRCUIT_BREAKER_OPEN";
+
+  /**
+   * The error code of errors reported for {@link com.salesforce.functions.jvm.sdk.data.UnitOfWork}
+   * operations that did not fail themselves, but were rolled back because another operation of the
+   * same request failed.
+   *
+   * @see com.salesforce.functions.jvm.sdk.data.DataApi#commitUnitOfWorkInParallel
+   */
+  String PROCESSING_HALTED_ERROR_CODE = "PROCESSING_HALTED";
+
+  /**
+   * The error code of errors caused by the API request allocation of the organization being
+   * exhausted. Used both by the API and by the rate limiter of the organization when it rejects a
+   * request without sending it.
+   *
+   * @see com.salesforce.functions.jvm.sdk.data.DataApi
+   */
+  String REQUEST_LIMIT_EXCEEDED_ERROR_CODE = "REQUEST_LIMIT_EXCEEDED";
+
   /**
    * Returns the message of this error.
    *
@@ -48,4 +76,15 @@ public interface DataApiError {
   @Nonnull
   @SuppressWarnings("unused")
   List<String> getFields();
+
+  /**
+   * Returns the {@link ReferenceId} of the {@link com.salesforce.functions.jvm.sdk.data.UnitOfWork}
+   * operation that caused this error. Empty for errors that are not related to a specific operation
+   * of a UnitOfWork.
+   *
+   * @return The {@link ReferenceId} of the operation that caused this error.
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  Optional<ReferenceId> getReferenceId();
 }
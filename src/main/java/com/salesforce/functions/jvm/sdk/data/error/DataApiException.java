@@ -6,14 +6,19 @@
  */
 package com.salesforce.functions.jvm.sdk.data.error;
 
+import com.salesforce.functions.jvm.sdk.data.RecordModificationResult;
+import com.salesforce.functions.jvm.sdk.data.ReferenceId;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 /** Signals that a data API error occurred. */
 public final class DataApiException extends Exception {
   private final List<DataApiError> errors;
+  private final Map<ReferenceId, RecordModificationResult> committedResults;
 
   /**
    * Constructs a DataApiException with the specified detail message.
@@ -25,6 +30,7 @@ public final class DataApiException extends Exception {
   public DataApiException(String message) {
     super(message);
     errors = Collections.unmodifiableList(new ArrayList<>());
+    committedResults = Collections.unmodifiableMap(new HashMap<>());
   }
 
   /**
@@ -40,6 +46,7 @@ public final class DataApiException extends Exception {
   public DataApiException(String message, Throwable cause) {
     super(message, cause);
     errors = Collections.unmodifiableList(new ArrayList<>());
+    committedResults = Collections.unmodifiableMap(new HashMap<>());
   }
 
   /**
@@ -54,6 +61,28 @@ public final class DataApiException extends Exception {
   public DataApiException(String message, List<DataApiError> errors) {
     super(message);
     this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+    this.committedResults = Collections.unmodifiableMap(new HashMap<>());
+  }
+
+  /**
+   * Constructs a DataApiException with the specified detail message, list of API errors and the
+   * results of operations that were committed despite the errors.
+   *
+   * @param message The detail message (which is saved for later retrieval by the {@link
+   *     Throwable#getMessage()} method)
+   * @param errors The list API errors (which is saved for later retrieval by the {@link
+   *     #getDataApiErrors()} method)
+   * @param committedResults The results of committed operations (which is saved for later retrieval
+   *     by the {@link #getCommittedResults()} method)
+   */
+  @SuppressWarnings("unused")
+  public DataApiException(
+      String message,
+      List<DataApiError> errors,
+      Map<ReferenceId, RecordModificationResult> committedResults) {
+    super(message);
+    this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+    this.committedResults = Collections.unmodifiableMap(new HashMap<>(committedResults));
   }
 
   /**
@@ -67,4 +96,18 @@ public final class DataApiException extends Exception {
   public List<DataApiError> getDataApiErrors() {
     return errors;
   }
+
+  /**
+   * Returns the results of the operations that were committed successfully, even though other
+   * operations failed. This map is empty unless the exception was thrown by an operation that does
+   * not commit all of its work atomically.
+   *
+   * @return The results of committed operations, indexed by their {@link ReferenceId}s.
+   * @see com.salesforce.functions.jvm.sdk.data.DataApi#commitUnitOfWorkInParallel
+   */
+  @Nonnull
+  @SuppressWarnings("unused")
+  public Map<ReferenceId, RecordModificationResult> getCommittedResults() {
+    return committedResults;
+  }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data.error;
+
+import java.util.Objects;
+import javax.annotation.Nonnull;
+
+/**
+ * Wraps a {@link DataApiException} with an unchecked exception. Used in places where checked
+ * exceptions cannot be thrown, such as {@link java.util.stream.Stream} operations.
+ *
+ * @see com.salesforce.functions.jvm.sdk.data.DataApi#streamQuery(String)
+ */
+public class UncheckedDataApiException extends RuntimeException {
+  /**
+   * Constructs an UncheckedDataApiException with the specified detail message and cause.
+   *
+   * @param message The detail message (which is saved for later retrieval by the {@link
+   *     Throwable#getMessage()} method)
+   * @param cause The {@link DataApiException} (which is saved for later retrieval by the {@link
+   *     #getCause()} method)
+   */
+  @SuppressWarnings("unused")
+  public UncheckedDataApiException(String message, DataApiException cause) {
+    super(message, Objects.requireNonNull(cause));
+  }
+
+  /**
+   * Constructs an UncheckedDataApiException with the specified cause.
+   *
+   * @param cause The {@link DataApiException} (which is saved for later retrieval by the {@link
+   *     #getCause()} method)
+   */
+  @SuppressWarnings("unused")
+  public UncheckedDataApiException(DataApiException cause) {
+    super(Objects.requireNonNull(cause));
+  }
+
+  /**
+   * Returns the {@link DataApiException} wrapped by this exception.
+   *
+   * @return The {@link DataApiException} wrapped by this exception.
+   */
+  @Nonnull
+  @Override
+  public synchronized DataApiException getCause() {
+    return (DataApiException) super.getCause();
+  }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.metrics;
+
+/**
+ * The states of a circuit breaker.
+ *
+ * @see com.salesforce.functions.jvm.sdk.data.builder.ResilienceOptionsBuilder#withCircuitBreaker
+ * @see DataApiMetricsRecorder#recordCircuitBreakerStateChange
+ */
+public enum CircuitBreakerState {
+  /** Operations are executed normally. */
+  CLOSED,
+  /** Operations fail immediately without sending a request. */
+  OPEN,
+  /** A single operation is executed to probe the API, all others fail immediately. */
+  HALF_OPEN
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.metrics;
+
+import com.salesforce.functions.jvm.sdk.Context;
+import com.salesforce.functions.jvm.sdk.Org;
+import com.salesforce.functions.jvm.sdk.data.DataApi;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Service provider interface to record metrics about the requests made by {@link DataApi} clients.
+ *
+ * <p>Implementations are discovered with {@link java.util.ServiceLoader} when the function is
+ * loaded. To register an implementation, list its fully qualified class name in a {@code
+ * META-INF/services/com.salesforce.functions.jvm.sdk.metrics.DataApiMetricsRecorder} resource. All
+ * discovered implementations receive all recorded requests.
+ *
+ * <p>Requests are recorded on the thread that received the response, directly after it was
+ * received. For blocking {@link DataApi} calls, this is the thread that made the request. For
+ * {@link com.salesforce.functions.jvm.sdk.data.AsyncDataApi} calls and batched requests, it is a
+ * thread of the runtime that no caller waits on. Implementations must therefore be thread-safe and
+ * return quickly. The parameters of {@link #recordRequest} are primitives or existing objects, so
+ * recording does not need to allocate, for example when adding durations to a pre-allocated
+ * histogram. {@link HistogramDataApiMetricsRecorder} is such an implementation that can be
+ * registered without additional dependencies.
+ */
+public interface DataApiMetricsRecorder {
+  /**
+   * Records a single request to the API. Retried requests are recorded once, after the last
+   * attempt.
+   *
+   * @param invocationId The id of the invocation that made the request, see {@link
+   *     Context#getId()}.
+   * @param orgId The id of the org the request was made to, see {@link Org#getId()}.
+   * @param operation The kind of request.
+   * @param durationNanos The duration of the request including all retries, in nanoseconds. Does
+   *     not include the time the request was queued by the rate limiter.
+   * @param bytesSent The amount of bytes sent in the request body.
+   * @param bytesReceived The amount of bytes received in the response body.
+   * @param recordCount The amount of records sent or returned by the request.
+   * @param retryCount The amount of retries needed, zero if the first attempt was conclusive.
+   * @param successful If the request completed successfully.
+   */
+  @SuppressWarnings("unused")
+  void recordRequest(
+      String invocationId,
+      String orgId,
+      DataApiOperation operation,
+      long durationNanos,
+      long bytesSent,
+      long bytesReceived,
+      int recordCount,
+      int retryCount,
+      boolean successful);
+
+  /**
+   * Records a state change of a circuit breaker. Does nothing by default.
+   *
+   * <p>Circuit breakers are identified by their domain URL, failure threshold and open duration.
+   * Several circuit breakers with different configurations can be used for the same domain URL;
+   * recorders should use all three values to tell their state changes apart.
+   *
+   * @param domainUrl The domain URL the circuit breaker is used for, see {@link
+   *     Org#getDomainUrl()}.
+   * @param failureThreshold The failure threshold the circuit breaker is configured with.
+   * @param openDuration The open duration the circuit breaker is configured with.
+   * @param state The new state of the circuit breaker.
+   * @see com.salesforce.functions.jvm.sdk.data.builder.ResilienceOptionsBuilder#withCircuitBreaker
+   */
+  @SuppressWarnings("unused")
+  default void recordCircuitBreakerStateChange(
+      URI domainUrl, int failureThreshold, Duration openDuration, CircuitBreakerState state) {}
+
+  /**
+   * Records the time a request was queued by the rate limiter of an org before it was sent. Called
+   * for every request, with zero if the request was not queued. Does nothing by default.
+   *
+   * @param invocationId The id of the invocation that made the request, see {@link
+   *     Context#getId()}.
+   * @param orgId The id of the org the request was made to, see {@link Org#getId()}.
+   * @param waitNanos The time the request was queued, in nanoseconds.
+   */
+  @SuppressWarnings("unused")
+  default void recordRateLimiterWait(String invocationId, String orgId, long waitNanos) {}
+
+  /**
+   * Records the batch size chosen for a {@link DataApi#queryMore} request of a query with adaptive
+   * batch sizes. Called once per request, before the request is sent. Does nothing by default.
+   *
+   * @param invocationId The id of the invocation that made the request, see {@link
+   *     Context#getId()}.
+   * @param orgId The id of the org the request was made to, see {@link Org#getId()}.
+   * @param chosenBatchSize The batch size requested for this batch.
+   * @param minBatchSize The minimum batch size configured for the query.
+   * @param maxBatchSize The maximum batch size configured for the query.
+   * @see com.salesforce.functions.jvm.sdk.data.builder.QueryOptionsBuilder#withAdaptiveBatchSize
+   */
+  @SuppressWarnings("unused")
+  default void recordAdaptiveBatchSize(
+      String invocationId, String orgId, int chosenBatchSize, int minBatchSize, int maxBatchSize) {}
+}
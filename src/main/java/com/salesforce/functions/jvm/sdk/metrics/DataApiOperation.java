@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.metrics;
+
+import com.salesforce.functions.jvm.sdk.data.DataApi;
+import com.salesforce.functions.jvm.sdk.data.RecordQueryResult;
+import com.salesforce.functions.jvm.sdk.data.UnitOfWork;
+
+/**
+ * The kinds of requests that are reported to a {@link DataApiMetricsRecorder}.
+ *
+ * @see DataApiMetricsRecorder#recordRequest
+ */
+public enum DataApiOperation {
+  /** An initial query, see {@link DataApi#query(String)}. */
+  QUERY,
+  /**
+   * A request for an additional batch of records, see {@link DataApi#queryMore(RecordQueryResult)}.
+   */
+  QUERY_MORE,
+  /** A record creation. */
+  CREATE,
+  /** A record update. */
+  UPDATE,
+  /** A record deletion. */
+  DELETE,
+  /** A commit of a {@link UnitOfWork}, see {@link DataApi#commitUnitOfWork(UnitOfWork)}. */
+  COMMIT_UNIT_OF_WORK,
+  /** A request to the Bulk API, see {@link DataApi#getBulkApi()}. */
+  BULK
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A lightweight {@link DataApiMetricsRecorder} that aggregates requests per {@link
+ * DataApiOperation} in memory. Request durations are recorded in log-linear histograms with a
+ * relative error of at most 12.5%. Recording does not allocate and does not block.
+ *
+ * <p>This recorder is not registered by default. To use it, list its fully qualified class name in
+ * a {@code META-INF/services/com.salesforce.functions.jvm.sdk.metrics.DataApiMetricsRecorder}
+ * resource of the function. All instances created with the public constructor share the same
+ * process-wide histograms, so the instance created by {@link java.util.ServiceLoader} and instances
+ * created by the function to read the recorded values observe the same data.
+ *
+ * <p>Values are cumulative since the recorder class was loaded or the last call to {@link
+ * #reset()}.
+ */
+@ThreadSafe
+public final class HistogramDataApiMetricsRecorder implements DataApiMetricsRecorder {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT =
+      (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + 2 * SUB_BUCKET_COUNT;
+  private static final int OPERATION_COUNT = DataApiOperation.values().length;
+
+  private static final int REQUESTS = 0;
+  private static final int FAILED_REQUESTS = 1;
+  private static final int RETRIES = 2;
+  private static final int BYTES_SENT = 3;
+  private static final int BYTES_RECEIVED = 4;
+  private static final int RECORDS = 5;
+  private static final int COUNTER_COUNT = 6;
+
+  private static final State SHARED_STATE = new State();
+
+  private final State state;
+
+  /** Creates a recorder that records into the process-wide histograms. */
+  @SuppressWarnings("unused")
+  public HistogramDataApiMetricsRecorder() {
+    this(SHARED_STATE);
+  }
+
+  HistogramDataApiMetricsRecorder(State state) {
+    this.state = state;
+  }
+
+  @Override
+  public void recordRequest(
+      String invocationId,
+      String orgId,
+      DataApiOperation operation,
+      long durationNanos,
+      long bytesSent,
+      long bytesReceived,
+      int recordCount,
+      int retryCount,
+      boolean successful) {
+
+    int operationIndex = operation.ordinal();
+    state.durations.incrementAndGet(operationIndex * BUCKET_COUNT + bucketIndex(durationNanos));
+
+    int counterIndex = operationIndex * COUNTER_COUNT;
+    state.counters.incrementAndGet(counterIndex + REQUESTS);
+    if (!successful) {
+      state.counters.incrementAndGet(counterIndex + FAILED_REQUESTS);
+    }
+    state.counters.addAndGet(counterIndex + RETRIES, retryCount);
+    state.counters.addAndGet(counterIndex + BYTES_SENT, bytesSent);
+    state.counters.addAndGet(counterIndex + BYTES_RECEIVED, bytesReceived);
+    state.counters.addAndGet(counterIndex + RECORDS, recordCount);
+  }
+
+  /**
+   * Returns the amount of recorded requests of the given operation.
+   *
+   * @param operation The operation.
+   * @return The amount of recorded requests.
+   */
+  @SuppressWarnings("unused")
+  public long getRequestCount(DataApiOperation operation) {
+    return getCounter(operation, REQUESTS);
+  }
+
+  /**
+   * Returns the amount of recorded requests of the given operation that did not complete
+   * successfully.
+   *
+   * @param operation The operation.
+   * @return The amount of failed requests.
+   */
+  @SuppressWarnings("unused")
+  public long getFailedRequestCount(DataApiOperation operation) {
+    return getCounter(operation, FAILED_REQUESTS);
+  }
+
+  /**
+   * Returns the total amount of retries of the recorded requests of the given operation.
+   *
+   * @param operation The operation.
+   * @return The total amount of retries.
+   */
+  @SuppressWarnings("unused")
+  public long getRetryCount(DataApiOperation operation) {
+    return getCounter(operation, RETRIES);
+  }
+
+  /**
+   * Returns the total amount of bytes sent by the recorded requests of the given operation.
+   *
+   * @param operation The operation.
+   * @return The total amount of bytes sent.
+   */
+  @SuppressWarnings("unused")
+  public long getBytesSent(DataApiOperation operation) {
+    return getCounter(operation, BYTES_SENT);
+  }
+
+  /**
+   * Returns the total amount of bytes received by the recorded requests of the given operation.
+   *
+   * @param operation The operation.
+   * @return The total amount of bytes received.
+   */
+  @SuppressWarnings("unused")
+  public long getBytesReceived(DataApiOperation operation) {
+    return getCounter(operation, BYTES_RECEIVED);
+  }
+
+  /**
+   * Returns the total amount of records sent or returned by the recorded requests of the given
+   * operation.
+   *
+   * @param operation The operation.
+   * @return The total amount of records.
+   */
+  @SuppressWarnings("unused")
+  public long getRecordCount(DataApiOperation operation) {
+    return getCounter(operation, RECORDS);
+  }
+
+  /**
+   * Returns the duration at the given percentile of the recorded requests of the given operation.
+   * The returned value is the highest duration that falls into the same histogram bucket as the
+   * exact percentile, so it is never lower and at most 12.5% higher than the exact value.
+   *
+   * <p>Requests that are recorded concurrently with this call might or might not be included.
+   *
+   * @param operation The operation.
+   * @param percentile The percentile, between 0 (exclusive) and 1 (inclusive), for example 0.99.
+   * @return The duration at the given percentile in nanoseconds, or zero if no requests have been
+   *     recorded.
+   * @throws IllegalArgumentException If percentile is not between 0 (exclusive) and 1 (inclusive).
+   */
+  @SuppressWarnings("unused")
+  public long getDurationPercentileNanos(DataApiOperation operation, double percentile) {
+    if (!(percentile > 0.0 && percentile <= 1.0)) {
+      throw new IllegalArgumentException("percentile must be between 0 (exclusive) and 1.");
+    }
+
+    int offset = operation.ordinal() * BUCKET_COUNT;
+
+    long totalCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      totalCount += state.durations.get(offset + i);
+    }
+
+    if (totalCount == 0) {
+      return 0;
+    }
+
+    long targetCount = Math.max(1, (long) Math.ceil(percentile * totalCount));
+    long count = 0;
+    int lastNonEmptyIndex = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      long bucketCount = state.durations.get(offset + i);
+      if (bucketCount > 0) {
+        count += bucketCount;
+        lastNonEmptyIndex = i;
+        if (count >= targetCount) {
+          return highestValueInBucket(i);
+        }
+      }
+    }
+
+    // Concurrent calls to reset() might make the second sum fall short of the total count.
+    return highestValueInBucket(lastNonEmptyIndex);
+  }
+
+  /** Resets all recorded values of this recorder to zero. */
+  @SuppressWarnings("unused")
+  public void reset() {
+    for (int i = 0; i < state.durations.length(); i++) {
+      state.durations.set(i, 0);
+    }
+
+    for (int i = 0; i < state.counters.length(); i++) {
+      state.counters.set(i, 0);
+    }
+  }
+
+  private long getCounter(DataApiOperation operation, int counter) {
+    return state.counters.get(operation.ordinal() * COUNTER_COUNT + counter);
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) Math.max(0, value);
+    }
+
+    int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+  }
+
+  static long highestValueInBucket(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long mantissa = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+    long lowestValue = mantissa << shift;
+    long bucketWidth = 1L << shift;
+    if (lowestValue > Long.MAX_VALUE - bucketWidth) {
+      return Long.MAX_VALUE;
+    }
+
+    return lowestValue + bucketWidth - 1;
+  }
+
+  static final class State {
+    private final AtomicLongArray durations =
+        new AtomicLongArray(OPERATION_COUNT * BUCKET_COUNT);
+    private final AtomicLongArray counters =
+        new AtomicLongArray(OPERATION_COUNT * COUNTER_COUNT);
+  }
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+/**
+ * This module contains the service provider interfaces to record metrics about the interaction of
+ * functions with the Salesforce API.
+ */
+@ParametersAreNonnullByDefault
+package com.salesforce.functions.jvm.sdk.metrics;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.junit.jupiter.api.Test;
+
+class FieldKeyTest {
+
+  @Test
+  void namesDifferingInCaseAreEqual() {
+    FieldKey fieldKey = FieldKey.of("AnnualRevenue");
+    FieldKey otherCase = FieldKey.of("ANNUALREVENUE");
+
+    assertEquals(fieldKey, otherCase);
+    assertEquals(fieldKey.hashCode(), otherCase.hashCode());
+  }
+
+  @Test
+  void nameKeepsSpellingOfEachCall() {
+    FieldKey fieldKey = FieldKey.of("Industry");
+    FieldKey otherCase = FieldKey.of("INDUSTRY");
+
+    assertNotSame(fieldKey, otherCase);
+    assertEquals("Industry", fieldKey.getName());
+    assertEquals("INDUSTRY", otherCase.getName());
+  }
+
+  @Test
+  void differentNamesAreNotEqual() {
+    assertNotEquals(FieldKey.of("Name"), FieldKey.of("Description"));
+  }
+
+  @Test
+  void normalizedNameIsLowerCase() {
+    assertEquals("numberofemployees", FieldKey.of("NumberOfEmployees").getNormalizedName());
+  }
+}
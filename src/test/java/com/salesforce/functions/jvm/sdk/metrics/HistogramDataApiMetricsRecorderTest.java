@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+package com.salesforce.functions.jvm.sdk.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HistogramDataApiMetricsRecorderTest {
+
+  @Test
+  void bucketsCoverAllValuesWithBoundedError() {
+    long[] values = {0, 1, 7, 8, 15, 16, 1_000, 123_456_789, Long.MAX_VALUE};
+    for (long value : values) {
+      long highestValue =
+          HistogramDataApiMetricsRecorder.highestValueInBucket(
+              HistogramDataApiMetricsRecorder.bucketIndex(value));
+
+      assertTrue(highestValue >= value);
+      assertTrue(highestValue - value <= value / 8);
+    }
+  }
+
+  @Test
+  void recordsCountersPerOperation() {
+    HistogramDataApiMetricsRecorder recorder = newRecorder();
+    recorder.recordRequest("invocation", "org", DataApiOperation.QUERY, 1_000, 10, 200, 5, 1, true);
+    recorder.recordRequest("invocation", "org", DataApiOperation.QUERY, 3_000, 10, 0, 0, 2, false);
+
+    assertEquals(2, recorder.getRequestCount(DataApiOperation.QUERY));
+    assertEquals(1, recorder.getFailedRequestCount(DataApiOperation.QUERY));
+    assertEquals(3, recorder.getRetryCount(DataApiOperation.QUERY));
+    assertEquals(20, recorder.getBytesSent(DataApiOperation.QUERY));
+    assertEquals(200, recorder.getBytesReceived(DataApiOperation.QUERY));
+    assertEquals(5, recorder.getRecordCount(DataApiOperation.QUERY));
+    assertEquals(0, recorder.getRequestCount(DataApiOperation.CREATE));
+  }
+
+  @Test
+  void returnsDurationPercentiles() {
+    HistogramDataApiMetricsRecorder recorder = newRecorder();
+    for (int i = 1; i <= 100; i++) {
+      recorder.recordRequest(
+          "invocation", "org", DataApiOperation.UPDATE, i * 1_000_000L, 0, 0, 1, 0, true);
+    }
+
+    long median = recorder.getDurationPercentileNanos(DataApiOperation.UPDATE, 0.5);
+    long p99 = recorder.getDurationPercentileNanos(DataApiOperation.UPDATE, 0.99);
+
+    assertTrue(median >= 50_000_000L && median <= 50_000_000L * 9 / 8);
+    assertTrue(p99 >= 99_000_000L && p99 <= 99_000_000L * 9 / 8);
+    assertEquals(0, recorder.getDurationPercentileNanos(DataApiOperation.DELETE, 0.5));
+  }
+
+  @Test
+  void resetClearsAllValues() {
+    HistogramDataApiMetricsRecorder recorder = newRecorder();
+    recorder.recordRequest("invocation", "org", DataApiOperation.BULK, 1_000, 1, 1, 1, 1, false);
+
+    recorder.reset();
+
+    assertEquals(0, recorder.getRequestCount(DataApiOperation.BULK));
+    assertEquals(0, recorder.getDurationPercentileNanos(DataApiOperation.BULK, 1.0));
+  }
+
+  @Test
+  void rejectsInvalidPercentiles() {
+    HistogramDataApiMetricsRecorder recorder = newRecorder();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> recorder.getDurationPercentileNanos(DataApiOperation.QUERY, 0.0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> recorder.getDurationPercentileNanos(DataApiOperation.QUERY, 1.5));
+  }
+
+  private static HistogramDataApiMetricsRecorder newRecorder() {
+    return new HistogramDataApiMetricsRecorder(new HistogramDataApiMetricsRecorder.State());
+  }
+}